@@ -0,0 +1,71 @@
+package breakout.benchmark;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import breakout.engine.GameSimulation;
+import breakout.entity.Ball;
+
+/**
+ * Ball.draw: 공 개수 x 잔상 유무 x 스킨 유무.
+ * 잔상은 링 버퍼가 가득 찬 상태, 스킨은 불러온 사진 대신 같은 형식(불투명 RGB)의 그라데이션 이미지를 쓴다.
+ */
+public class BallRenderBenchmark extends RenderBenchmarkBase {
+
+    private static final int TRAIL_STEPS = 10;
+
+    @Param({"1", "10", "100"})
+    public int balls;
+
+    @Param({"false", "true"})
+    public boolean trail;
+
+    @Param({"false", "true"})
+    public boolean skin;
+
+    private Ball[] ballArray;
+
+    @Setup(Level.Trial)
+    public void placeBalls() {
+        BufferedImage skinImage = skin ? createSkinImage() : null;
+        ballArray = new Ball[balls];
+        for (int i = 0; i < balls; i++) {
+            double x = 40 + (i * 73) % (GameSimulation.WIDTH - 80);
+            double y = 80 + (i * 37) % (GameSimulation.HEIGHT - 160);
+            Ball b = new Ball(x, y);
+            b.setSkin(skinImage);
+            if (trail) {
+                for (int s = 0; s < TRAIL_STEPS; s++) {
+                    b.update();
+                    b.recordTrail();
+                }
+            }
+            b.savePreviousPosition();
+            ballArray[i] = b;
+        }
+    }
+
+    private static BufferedImage createSkinImage() {
+        BufferedImage image = new BufferedImage(256, 256, BufferedImage.TYPE_INT_RGB);
+        Graphics2D sg = image.createGraphics();
+        sg.setPaint(new GradientPaint(0, 0, Color.ORANGE, 256, 256, Color.BLUE));
+        sg.fillRect(0, 0, 256, 256);
+        sg.dispose();
+        return image;
+    }
+
+    @Benchmark
+    public void draw() {
+        g.setColor(Color.RED);
+        for (int i = 0; i < ballArray.length; i++) {
+            ballArray[i].draw(g, 0.5);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package breakout.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import breakout.engine.CollisionDetector;
+import breakout.entity.Ball;
+import breakout.entity.Brick;
+import breakout.manager.MapGenerator;
+
+/**
+ * 벽돌 충돌 처리 비용.
+ * 한 번의 측정 = 모든 공을 시작 위치로 되돌리고 각각 한 번씩 충돌 처리.
+ *
+ * sweepBall: 게임 루프가 쓰는 경로 (격자 조회 + 경로 검사 + 반사). 공은 벽돌 바깥에서 출발해 스텝 중간에 닿는다.
+ * resolveBallVsRect: 움직이는 벽돌이 공과 겹쳤을 때의 밀어내기. 공은 벽돌 가장자리에 반쯤 겹쳐 있다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16"})
+    public int level;
+
+    @Param({"1", "10", "100"})
+    public int balls;
+
+    private MapGenerator map;
+    private Scenarios.BallSet approaching;
+    private Scenarios.BallSet overlapping;
+    private final List<Brick> hitBricks = new ArrayList<>();
+    private final CollisionDetector.Scratch scratch = new CollisionDetector.Scratch();
+
+    // sweepBall은 벽돌 체력을 건드리지 않으므로 (hit()은 호출 측 몫) 장면이 측정 내내 그대로다
+    @Setup(Level.Trial)
+    public void setUp() {
+        map = Scenarios.loadLevel(level);
+        approaching = Scenarios.ballsApproachingBricks(map.bricks, balls);
+        overlapping = Scenarios.ballsAgainstBricks(map.bricks, balls);
+    }
+
+    @Benchmark
+    public double sweepBall() {
+        double sum = 0;
+        Ball[] bs = approaching.balls;
+        for (int i = 0; i < bs.length; i++) {
+            approaching.reset(i);
+            hitBricks.clear();
+            CollisionDetector.sweepBall(bs[i], map.getBrickGrid(), null, false, hitBricks, scratch);
+            sum += bs[i].getVelocity().x + hitBricks.size();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double resolveBallVsRect() {
+        double sum = 0;
+        Ball[] bs = overlapping.balls;
+        for (int i = 0; i < bs.length; i++) {
+            overlapping.reset(i);
+            CollisionDetector.resolveBallVsRect(bs[i], overlapping.targets.get(i));
+            sum += bs[i].getVelocity().x;
+        }
+        return sum;
+    }
+}
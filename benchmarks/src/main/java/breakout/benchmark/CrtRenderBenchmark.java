@@ -0,0 +1,30 @@
+package breakout.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import breakout.engine.GameSimulation;
+import breakout.view.CrtOverlay;
+
+/**
+ * CRT 필터 오버레이 (주사선, 비네트 유무). 미리 구운 반투명 이미지를 화면 전체에 합성하는 비용이다.
+ */
+public class CrtRenderBenchmark extends RenderBenchmarkBase {
+
+    @Param({"false", "true"})
+    public boolean vignette;
+
+    private CrtOverlay crt;
+
+    @Setup(Level.Trial)
+    public void createOverlay() {
+        crt = new CrtOverlay(GameSimulation.WIDTH, GameSimulation.HEIGHT, vignette);
+    }
+
+    @Benchmark
+    public void draw() {
+        crt.draw(g);
+    }
+}
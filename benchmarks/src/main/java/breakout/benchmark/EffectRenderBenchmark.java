@@ -0,0 +1,49 @@
+package breakout.benchmark;
+
+import java.awt.Color;
+import java.util.SplittableRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import breakout.engine.GameSimulation;
+import breakout.manager.EffectManager;
+
+/**
+ * EffectManager.draw: 파티클 풀이 거의 가득 찬 상태.
+ * 폭발을 여러 스텝에 나눠 터뜨려서 파티클의 투명도가 실제 게임처럼 고르게 퍼지게 한 뒤 그 장면을 반복해서 그린다.
+ */
+public class EffectRenderBenchmark extends RenderBenchmarkBase {
+
+    // 파티클은 50번 업데이트 뒤 사라지므로 그보다 조금 짧게 채운다
+    private static final int FILL_STEPS = 45;
+    private static final Color[] COLORS = {Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN, Color.CYAN, Color.MAGENTA};
+
+    @Param({"512", "2048", "8192"})
+    public int maxParticles;
+
+    private EffectManager effects;
+
+    @Setup(Level.Trial)
+    public void fillParticles() {
+        SplittableRandom random = new SplittableRandom(Scenarios.SEED);
+        effects = new EffectManager(maxParticles);
+        effects.setRandom(random.split());
+        int perStep = Math.max(1, maxParticles / 20 / FILL_STEPS + 1);
+        for (int s = 0; s < FILL_STEPS; s++) {
+            for (int e = 0; e < perStep; e++) {
+                effects.createExplosion(random.nextDouble(GameSimulation.WIDTH), random.nextDouble(GameSimulation.HEIGHT / 2.0),
+                        COLORS[random.nextInt(COLORS.length)]);
+            }
+            effects.update();
+        }
+    }
+
+    @Benchmark
+    public int draw() {
+        effects.draw(g);
+        return effects.getParticleCount();
+    }
+}
@@ -0,0 +1,52 @@
+package breakout.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import breakout.engine.GameSimulation;
+import breakout.manager.InputManager;
+import breakout.view.HudRenderer;
+
+/**
+ * HudRenderer.draw (점수, 남은 벽돌, 목숨, 시드).
+ * busy=true면 버프 4종과 콤보 표시까지 모두 켜진 상태 (콤보는 공을 여러 개 풀어 실제로 쌓는다).
+ */
+public class HudRenderBenchmark extends RenderBenchmarkBase {
+
+    private static final int MAX_COMBO_STEPS = 100_000;
+
+    @Param({"false", "true"})
+    public boolean busy;
+
+    private GameSimulation sim;
+    private HudRenderer hud;
+
+    @Setup(Level.Trial)
+    public void setUpHud() {
+        sim = new GameSimulation(new InputManager(), null);
+        sim.startLevel(1, Scenarios.SEED);
+        hud = new HudRenderer();
+        if (busy) {
+            sim.spawnMultiBall(20);
+            for (int i = 0; i < MAX_COMBO_STEPS && sim.getComboCount() < 2 && !sim.isFinished(); i++) {
+                sim.step();
+            }
+            if (sim.getComboCount() < 2) {
+                throw new IllegalStateException("could not build a combo for the HUD scene");
+            }
+            hud.onCombo(sim.getComboCount());
+            // 스텝을 도는 동안 끝나지 않도록 버프는 콤보를 쌓은 뒤에 켠다
+            sim.activateDoubleScore();
+            sim.activatePiercingBall();
+            sim.activateSlowBall();
+            sim.addBombBallCharge();
+        }
+    }
+
+    @Benchmark
+    public void draw() {
+        hud.draw(g, sim);
+    }
+}
@@ -0,0 +1,36 @@
+package breakout.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import breakout.manager.MapGenerator;
+
+/**
+ * MapGenerator.draw: 벽돌 레이어 복사 + 움직이는 벽돌.
+ * draw는 레이어가 그대로인 보통 프레임, drawRebuild는 레이어 전체를 다시 그리는 프레임 (색상 변경, 레벨 시작).
+ */
+public class MapRenderBenchmark extends RenderBenchmarkBase {
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16"})
+    public int level;
+
+    private MapGenerator map;
+
+    @Setup(Level.Trial)
+    public void loadMap() {
+        map = Scenarios.loadLevel(level);
+    }
+
+    @Benchmark
+    public void draw() {
+        map.draw(g, 0.5);
+    }
+
+    @Benchmark
+    public void drawRebuild() {
+        map.invalidateLayer();
+        map.draw(g, 0.5);
+    }
+}
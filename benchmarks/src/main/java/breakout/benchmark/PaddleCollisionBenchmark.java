@@ -0,0 +1,70 @@
+package breakout.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import breakout.engine.CollisionDetector;
+import breakout.engine.GameSimulation;
+import breakout.entity.Ball;
+import breakout.entity.Paddle;
+import breakout.manager.InputManager;
+
+/**
+ * 패들 모양별 반사 계산 비용.
+ * 공들은 패들 왼쪽 끝부터 오른쪽 끝까지 고르게 떨어져서 윗면에 걸친 상태로 시작한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class PaddleCollisionBenchmark {
+
+    // Paddle.SHAPE_RECT, SHAPE_ROUND, SHAPE_DIAMOND, SHAPE_WAVE
+    @Param({"0", "1", "2", "3"})
+    public int shape;
+
+    @Param({"1", "10", "100"})
+    public int balls;
+
+    private Paddle paddle;
+    private Scenarios.BallSet set;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        paddle = new Paddle(GameSimulation.WIDTH / 2 - 50, GameSimulation.HEIGHT - 60, new InputManager());
+        paddle.setShapeType(shape);
+
+        set = new Scenarios.BallSet(balls);
+        double r = Scenarios.BallSet.SIZE / 2.0;
+        for (int i = 0; i < balls; i++) {
+            double cx = paddle.getPosition().x + paddle.getWidth() * (i + 0.5) / balls;
+            set.place(i, cx - r, paddle.getPosition().y - r, 1.5, 5);
+        }
+    }
+
+    @Benchmark
+    public double handlePaddleCollision() {
+        double sum = 0;
+        Ball[] bs = set.balls;
+        for (int i = 0; i < bs.length; i++) {
+            set.reset(i);
+            CollisionDetector.handlePaddleCollision(bs[i], paddle);
+            sum += bs[i].getVelocity().x;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,100 @@
+package breakout.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import breakout.engine.GameSimulation;
+import breakout.entity.Ball;
+import breakout.entity.Brick;
+import breakout.manager.InputManager;
+import breakout.manager.MapGenerator;
+
+/**
+ * GameSimulation.step() 한 번 (패들, 아이템, 공 이동/충돌, 점수 처리 전체)의 비용.
+ *
+ * 측정 중에도 장면이 비슷하게 유지되도록
+ * 바닥에 닿을 공은 위로 튕겨 보내고, 벽돌이 1/4 이하로 줄면 처음 상태로 되살린다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class PhysicsStepBenchmark {
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16"})
+    public int level;
+
+    @Param({"1", "10", "100"})
+    public int balls;
+
+    private GameSimulation sim;
+    private int[] startHp;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sim = new GameSimulation(new InputManager(), null);
+        restart();
+    }
+
+    private void restart() {
+        sim.startLevel(level, Scenarios.SEED);
+        sim.spawnMultiBall(balls - 1);
+        List<Brick> bricks = sim.getMapGenerator().bricks;
+        startHp = new int[bricks.size()];
+        for (int i = 0; i < startHp.length; i++) {
+            startHp[i] = bricks.get(i).hp;
+        }
+    }
+
+    @Benchmark
+    public long step() {
+        keepBallsInPlay();
+        reviveBricks();
+        if (sim.isFinished()) {
+            restart();
+        }
+        sim.step();
+        return sim.getTickCount();
+    }
+
+    private void keepBallsInPlay() {
+        List<Ball> bs = sim.getBalls();
+        for (int i = 0; i < bs.size(); i++) {
+            Ball b = bs.get(i);
+            if (b.getPosition().y > GameSimulation.HEIGHT - 40 && b.getVelocity().y > 0) {
+                b.getVelocity().y = -b.getVelocity().y;
+            }
+        }
+    }
+
+    private void reviveBricks() {
+        MapGenerator map = sim.getMapGenerator();
+        ArrayList<Brick> bricks = map.bricks;
+        if (map.getLiveBrickCount() * 4 > bricks.size()) {
+            return;
+        }
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick brick = bricks.get(i);
+            brick.hp = startHp[i];
+            brick.isDestroyed = false;
+        }
+        // 같은 목록이므로 격자를 새로 만들지 않고 남은 벽돌 수만 다시 센다
+        map.refreshBricks();
+    }
+}
@@ -0,0 +1,52 @@
+package breakout.benchmark;
+
+import java.awt.Graphics2D;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 렌더링 벤치마크 공통 설정.
+ * 한 번의 측정 = 해당 요소를 한 프레임 그리기. ns/op가 ns/frame, gc.alloc.rate.norm이 프레임당 할당 바이트다.
+ * 기본은 BufferedImage에 그린다. 디스플레이가 있으면 -p surface=volatile로 VolatileImage 경로도 잴 수 있다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public abstract class RenderBenchmarkBase {
+
+    @Param({RenderSurface.BUFFERED})
+    public String surface;
+
+    private RenderSurface target;
+    protected Graphics2D g;
+
+    @Setup(Level.Trial)
+    public void openSurface() {
+        target = new RenderSurface(surface);
+    }
+
+    @Setup(Level.Iteration)
+    public void beginFrame() {
+        g = target.begin();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeSurface() {
+        target.close();
+    }
+}
@@ -0,0 +1,80 @@
+package breakout.benchmark;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+import breakout.engine.GameSimulation;
+
+/**
+ * 렌더링 벤치마크가 그리는 화면 밖 프레임 (게임 화면과 같은 800x600).
+ *
+ * buffered: 화면 형식과 무관한 BufferedImage (헤드리스에서도 동작, 소프트웨어 렌더링)
+ * volatile: 기본 화면의 VolatileImage (실제 게임의 백버퍼와 같은 경로, 디스플레이가 있어야 한다)
+ *
+ * VolatileImage는 파이프라인에 따라 그리기 명령을 모아 두었다가 나중에 처리하므로
+ * 측정값이 실제 픽셀 처리 비용보다 작게 나올 수 있다.
+ */
+final class RenderSurface {
+
+    static final String BUFFERED = "buffered";
+    static final String VOLATILE = "volatile";
+
+    private final BufferedImage bufferedImage;
+    private final VolatileImage volatileImage;
+    private final GraphicsConfiguration config;
+    private Graphics2D graphics;
+
+    RenderSurface(String kind) {
+        int w = GameSimulation.WIDTH;
+        int h = GameSimulation.HEIGHT;
+        if (VOLATILE.equals(kind)) {
+            if (GraphicsEnvironment.isHeadless()) {
+                throw new IllegalStateException("volatile surface needs a display (run without -Djava.awt.headless=true)");
+            }
+            config = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+            volatileImage = config.createCompatibleVolatileImage(w, h, Transparency.OPAQUE);
+            bufferedImage = null;
+        } else if (BUFFERED.equals(kind)) {
+            bufferedImage = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            volatileImage = null;
+            config = null;
+        } else {
+            throw new IllegalArgumentException("unknown surface: " + kind);
+        }
+    }
+
+    /**
+     * 새 측정 반복을 시작할 때 호출한다. 프레임을 검게 지우고 그리기용 Graphics2D를 돌려준다.
+     * 같은 Graphics2D를 반복 내내 재사용해서 createGraphics() 비용이 결과에 섞이지 않게 한다.
+     */
+    Graphics2D begin() {
+        if (graphics != null) {
+            graphics.dispose();
+        }
+        if (volatileImage != null && volatileImage.validate(config) == VolatileImage.IMAGE_INCOMPATIBLE) {
+            throw new IllegalStateException("volatile surface became incompatible with the screen");
+        }
+        graphics = volatileImage != null ? volatileImage.createGraphics() : bufferedImage.createGraphics();
+        graphics.setComposite(AlphaComposite.Src);
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(0, 0, GameSimulation.WIDTH, GameSimulation.HEIGHT);
+        graphics.setComposite(AlphaComposite.SrcOver);
+        return graphics;
+    }
+
+    void close() {
+        if (graphics != null) {
+            graphics.dispose();
+            graphics = null;
+        }
+        if (volatileImage != null) {
+            volatileImage.flush();
+        }
+    }
+}
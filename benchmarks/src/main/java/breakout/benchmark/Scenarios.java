@@ -0,0 +1,112 @@
+package breakout.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import breakout.entity.Ball;
+import breakout.entity.Brick;
+import breakout.manager.MapGenerator;
+
+/**
+ * 벤치마크 공통 장면 구성.
+ * 시드를 고정해서 랜덤 레벨(12, 14, 16)도 실행마다 같은 배치가 나오게 한다.
+ */
+final class Scenarios {
+
+    static final long SEED = 0x5EEDL;
+
+    // 벽돌 쪽으로 움직이는 공의 속도와, 바깥에서 출발할 때 벽돌까지 남겨 두는 거리
+    static final double SPEED = 4;
+    static final double GAP = SPEED / 2;
+
+    private Scenarios() {
+
+    }
+
+    static MapGenerator loadLevel(int level) {
+        MapGenerator map = new MapGenerator();
+        map.setRandom(new SplittableRandom(SEED));
+        map.loadLevel(level);
+        return map;
+    }
+
+    /**
+     * 벽돌마다 돌아가며 공 하나씩 배치한다.
+     * 공은 벽돌의 왼쪽/오른쪽/위/아래 가장자리(공 번호 순서대로)에 반쯤 겹치고 벽돌 쪽으로 움직인다.
+     */
+    static BallSet ballsAgainstBricks(List<Brick> bricks, int count) {
+        return ballsAtBrickEdges(bricks, count, 0);
+    }
+
+    /**
+     * ballsAgainstBricks와 같은 순서로 배치하되, 공이 벽돌에서 GAP만큼 떨어진 바깥에서 출발한다.
+     * 한 스텝(속도 SPEED) 안에 벽돌에 닿으므로 sweep이 실제 충돌 경로를 탄다.
+     */
+    static BallSet ballsApproachingBricks(List<Brick> bricks, int count) {
+        return ballsAtBrickEdges(bricks, count, BallSet.SIZE / 2.0 + GAP);
+    }
+
+    // offset: 벽돌 가장자리에서 공 중심까지의 거리 (0이면 반쯤 겹침)
+    private static BallSet ballsAtBrickEdges(List<Brick> bricks, int count, double offset) {
+        BallSet set = new BallSet(count);
+        for (int i = 0; i < count; i++) {
+            Brick brick = bricks.get((i * 7) % bricks.size());
+            double bx = brick.getPosition().x;
+            double by = brick.getPosition().y;
+            double bw = brick.getWidth();
+            double bh = brick.getHeight();
+            double r = BallSet.SIZE / 2.0;
+            switch (i % 4) {
+                case 0:
+                    set.place(i, bx - offset - r, by + bh / 2 - r, SPEED, 0);
+                    break;
+                case 1:
+                    set.place(i, bx + bw + offset - r, by + bh / 2 - r, -SPEED, 0);
+                    break;
+                case 2:
+                    set.place(i, bx + bw / 2 - r, by - offset - r, 0, SPEED);
+                    break;
+                default:
+                    set.place(i, bx + bw / 2 - r, by + bh + offset - r, 0, -SPEED);
+                    break;
+            }
+            set.targets.add(brick);
+        }
+        return set;
+    }
+
+    /** 공 목록과 각 공의 시작 상태. 측정마다 reset()으로 같은 상태에서 시작한다. */
+    static final class BallSet {
+        static final int SIZE = 30;
+
+        final Ball[] balls;
+        final List<Brick> targets = new ArrayList<>();
+        private final double[] x, y, vx, vy;
+
+        BallSet(int count) {
+            balls = new Ball[count];
+            x = new double[count];
+            y = new double[count];
+            vx = new double[count];
+            vy = new double[count];
+        }
+
+        void place(int i, double px, double py, double pvx, double pvy) {
+            balls[i] = new Ball(px, py);
+            x[i] = px;
+            y[i] = py;
+            vx[i] = pvx;
+            vy[i] = pvy;
+            reset(i);
+        }
+
+        void reset(int i) {
+            Ball b = balls[i];
+            b.getPosition().x = x[i];
+            b.getPosition().y = y[i];
+            b.getVelocity().x = vx[i];
+            b.getVelocity().y = vy[i];
+        }
+    }
+}
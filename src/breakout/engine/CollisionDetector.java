@@ -1,6 +1,6 @@
 package breakout.engine;
 
-import java.awt.Rectangle;
+import java.util.ArrayList;
 import java.util.List;
 
 import breakout.entity.Ball;
@@ -12,23 +12,63 @@ import breakout.manager.SoundManager;
 
 public final class CollisionDetector {
 
+    // 한 스텝 안에서 처리할 최대 충돌 횟수 (모서리 사이에 끼었을 때 무한 반사 방지)
+    private static final int MAX_IMPACTS_PER_STEP = 4;
+
+    // 충돌 지점에서 법선 방향으로 살짝 띄워서 다음 검사에서 같은 면에 다시 걸리지 않게 한다
+    private static final double CONTACT_EPSILON = 0.01;
+
+    // 반직선 검사에서 시작점이 이미 도형 안에 있음을 나타내는 값
+    private static final double STARTS_INSIDE = -2;
+
     private CollisionDetector() {
 
     }
 
+    /**
+     * 격자 조회 결과와 sweep 법선을 담아 둘 작업 버퍼.
+     * 호출하는 쪽(시뮬레이션마다) 하나씩 만들어 재사용한다. 여러 스레드가 하나를 같이 쓰면 안 된다.
+     */
+    public static final class Scratch {
+        private final List<Brick> nearbyBricks = new ArrayList<>();
+        private final double[] normal = new double[2];
+        private final double[] bestNormal = new double[2];
+    }
+
     public static boolean isColliding(Collidable a, Collidable b) {
         if (a == null || b == null) 
             return false;
+        if (a instanceof GameObject && b instanceof GameObject) 
+            return ((GameObject) a).intersects((GameObject) b);
         return a.getBounds().intersects(b.getBounds());
     }
 
+    // 바운딩 박스 겹침 검사 (Rectangle 생성 없음)
+    public static boolean overlaps(GameObject a, GameObject b) {
+        if (a == null || b == null) 
+            return false;
+        return a.intersects(b);
+    }
+
     public static void handleWallCollision(Ball ball, int minX, int minY, int maxX, int maxY, SoundManager soundManager) {
+        // 충돌이 발생했을 때만 소리 재생
+        if (handleWallCollision(ball, minX, minY, maxX, maxY) && soundManager != null) {
+            soundManager.playWallSound();
+        }
+    }
+
+    /**
+     * 벽 반사만 처리한다 (소리 없음).
+     *
+     * @return 벽에 튕겼으면 true
+     */
+    public static boolean handleWallCollision(Ball ball, int minX, int minY, int maxX, int maxY) {
         if (ball == null) 
-            return;
+            return false;
 
         double x = ball.getPosition().x;
         double y = ball.getPosition().y;
-        double w = ball.getBounds().getWidth();
+        double w = ball.getWidth();
         Vector2D v = ball.getVelocity();
         boolean hit = false;
 
@@ -52,28 +92,27 @@ public final class CollisionDetector {
                 hit = true;
             }
 
-    // 충돌이 발생했을 때만 소리 재생
-            if (hit && soundManager != null) {
-             soundManager.playWallSound();
-             }
+            return hit;
      }
 
     public static void handlePaddleCollision(Ball ball, Paddle paddle) {
         if (ball == null || paddle == null) 
             return;
-        if (!isColliding(ball, paddle)) 
+        if (!ball.intersects(paddle)) 
             return;
+        reflectOffPaddle(ball, paddle);
+    }
 
-        Rectangle b = ball.getBounds();
-        Rectangle p = paddle.getBounds();
+    // 패들 모양에 따른 반사 (겹침 여부는 호출 측에서 확인)
+    private static void reflectOffPaddle(Ball ball, Paddle paddle) {
         Vector2D v = ball.getVelocity();
 
         // 공이 내려오고 있을 때만 반사
         if (v.y > 0) {
-            double paddleCenter = p.getCenterX();
-            double ballCenter = b.getCenterX();
+            double paddleCenter = paddle.getCenterX();
+            double ballCenter = ball.getCenterX();
             // -1.0 (왼쪽 끝) ~ 0.0 (중앙) ~ 1.0 (오른쪽 끝)
-            double offset = (ballCenter - paddleCenter) / (p.getWidth() / 2.0);
+            double offset = (ballCenter - paddleCenter) / (paddle.getWidth() / 2.0);
             
             double speed = v.magnitude(); // 현재 속력 유지
 
@@ -115,24 +154,9 @@ public final class CollisionDetector {
 
             // 공 겹침 방지 보정
             if (paddle.getShapeType() == Paddle.SHAPE_DIAMOND || paddle.getShapeType() == Paddle.SHAPE_WAVE) {
-                ball.getPosition().y = p.y - b.height - 10;
+                ball.getPosition().y = paddle.getMinY() - ball.getHeight() - 10;
             } else {
-                ball.getPosition().y = p.y - b.height - 1;
-            }
-        }
-    }
-
-    public static void handleBrickCollisions(Ball ball, List<? extends Brick> bricks) {
-        if (ball == null || bricks == null) 
-            return;
-        for (Brick brick : bricks) {
-            if (brick == null || brick.isDestroyed) 
-                continue;
-            if (isColliding(ball, brick)) {
-                resolveBallVsRect(ball, brick);
-                brick.hit();
-                // brick.onCollision(ball);
-                break; 
+                ball.getPosition().y = paddle.getMinY() - ball.getHeight() - 1;
             }
         }
     }
@@ -140,16 +164,14 @@ public final class CollisionDetector {
     public static void resolveBallVsRect(Ball ball, GameObject rect) {
         if (ball == null || rect == null) 
             return;
-        Rectangle b = ball.getBounds();
-        Rectangle r = rect.getBounds();
-        if (!b.intersects(r)) 
+        if (!ball.intersects(rect)) 
             return; 
 
         Vector2D v = ball.getVelocity();
-        double overlapLeft   = b.getMaxX() - r.getMinX();
-        double overlapRight  = r.getMaxX() - b.getMinX();
-        double overlapTop    = b.getMaxY() - r.getMinY();
-        double overlapBottom = r.getMaxY() - b.getMinY();
+        double overlapLeft   = ball.getMaxX() - rect.getMinX();
+        double overlapRight  = rect.getMaxX() - ball.getMinX();
+        double overlapTop    = ball.getMaxY() - rect.getMinY();
+        double overlapBottom = rect.getMaxY() - ball.getMinY();
 
         double minOverlap = Math.min(Math.min(overlapLeft, overlapRight), Math.min(overlapTop, overlapBottom));
 
@@ -166,4 +188,248 @@ public final class CollisionDetector {
              ball.getPosition().y += overlapBottom; v.y = Math.abs(v.y);
              }
     }
-}
\ No newline at end of file
+
+    /**
+     * 공을 이번 스텝의 속도만큼 이동시키면서 경로상의 벽돌/패들과의 충돌을 시간 순서대로 처리한다.
+     * 한 스텝 안에서 여러 번 부딪혀도 각 충돌 지점에서 반사한 뒤 남은 거리만큼 계속 이동한다.
+     * 맞은 벽돌은 hitBricks에 맞은 순서대로 담기며, brick.hit() 호출은 호출 측 몫이다.
+     * 체력은 스텝이 끝난 뒤에 줄어들므로, 이번 스텝에 이미 맞은 횟수로 깨질 벽돌은 후보에서 뺀다
+     * (모서리에서 A→B→A로 튕길 때 이미 깨졌을 A에 또 반사하지 않도록). 관통 공은 같은 벽돌을 한 번만 맞는다.
+     *
+     * @param piercing true면 벽돌에서 반사하지 않고 그대로 통과한다
+     * @param scratch 호출하는 쪽이 갖고 있는 작업 버퍼
+     * @return 패들에 맞았으면 true
+     */
+    public static boolean sweepBall(Ball ball, SpatialGrid<Brick> grid, Paddle paddle, boolean piercing, List<Brick> hitBricks,
+                                    Scratch scratch) {
+        List<Brick> nearbyBricks = scratch.nearbyBricks;
+        double[] sweepNormal = scratch.normal;
+        double[] bestNormal = scratch.bestNormal;
+        Vector2D pos = ball.getPosition();
+        Vector2D v = ball.getVelocity();
+        double radius = ball.getWidth() / 2.0;
+        double remaining = 1.0;
+        boolean paddleHit = false;
+        Object lastHit = null;
+
+        for (int impact = 0; impact < MAX_IMPACTS_PER_STEP && remaining > 0; impact++) {
+            double dx = v.x * remaining;
+            double dy = v.y * remaining;
+            double cx = pos.x + radius;
+            double cy = pos.y + radius;
+
+            double bestT = Double.POSITIVE_INFINITY;
+            Brick bestBrick = null;
+            boolean bestIsPaddle = false;
+
+            if (grid != null) {
+                grid.query(Math.min(pos.x, pos.x + dx), Math.min(pos.y, pos.y + dy),
+                        ball.getWidth() + Math.abs(dx), ball.getHeight() + Math.abs(dy), nearbyBricks);
+                for (int i = 0; i < nearbyBricks.size(); i++) {
+                    Brick brick = nearbyBricks.get(i);
+                    if (brick.isDestroyed || (piercing ? hitBricks.contains(brick) : brick.hp <= countHits(hitBricks, brick))) {
+                        continue;
+                    }
+                    double t = sweepCircleVsRect(cx, cy, radius, dx, dy, brick.getPosition().x, brick.getPosition().y,
+                            brick.getWidth(), brick.getHeight(), sweepNormal);
+                    if (t >= 0 && t < bestT) {
+                        bestT = t;
+                        bestBrick = brick;
+                        bestIsPaddle = false;
+                        bestNormal[0] = sweepNormal[0];
+                        bestNormal[1] = sweepNormal[1];
+                    }
+                }
+                nearbyBricks.clear();
+            }
+
+            // 패들은 공이 내려오고 있을 때만 반사한다
+            if (paddle != null && paddle != lastHit && v.y > 0) {
+                double t = sweepCircleVsRect(cx, cy, radius, dx, dy, paddle.getPosition().x, paddle.getPosition().y,
+                        paddle.getWidth(), paddle.getHeight(), sweepNormal);
+                if (t >= 0 && t < bestT) {
+                    bestT = t;
+                    bestBrick = null;
+                    bestIsPaddle = true;
+                }
+            }
+
+            if (bestBrick == null && !bestIsPaddle) {
+                pos.x += dx;
+                pos.y += dy;
+                return paddleHit;
+            }
+
+            // 충돌 지점까지 이동
+            pos.x += dx * bestT;
+            pos.y += dy * bestT;
+            remaining *= (1.0 - bestT);
+
+            if (bestIsPaddle) {
+                reflectOffPaddle(ball, paddle);
+                paddleHit = true;
+                lastHit = paddle;
+                continue;
+            }
+
+            hitBricks.add(bestBrick);
+            lastHit = bestBrick;
+            if (!piercing) {
+                reflect(v, bestNormal[0], bestNormal[1]);
+                pos.x += bestNormal[0] * CONTACT_EPSILON;
+                pos.y += bestNormal[1] * CONTACT_EPSILON;
+            }
+        }
+        return paddleHit;
+    }
+
+    private static int countHits(List<Brick> hitBricks, Brick brick) {
+        int n = 0;
+        for (int i = 0; i < hitBricks.size(); i++) {
+            if (hitBricks.get(i) == brick) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * 움직이는 원(중심 cx, cy / 반지름 radius / 이동량 dx, dy)과 사각형의 최초 충돌 시각을 구한다.
+     * 사각형을 반지름만큼 부풀린 둥근 사각형(가로/세로로 부푼 상자 2개 + 꼭짓점 원 4개)에 대해 반직선 검사를 한다.
+     *
+     * @param normalOut 충돌 면의 바깥쪽 단위 법선이 담길 배열 (길이 2)
+     * @return 충돌 시각 (0~1, 이동량 대비 비율). 이번 이동 안에 충돌하지 않거나 이미 겹쳐 있으면 -1
+     */
+    public static double sweepCircleVsRect(double cx, double cy, double radius, double dx, double dy,
+                                           double rx, double ry, double rw, double rh, double[] normalOut) {
+        // 이동 경로의 바운딩 박스가 부푼 사각형과 겹치지 않으면 바로 제외
+        if (Math.max(cx, cx + dx) < rx - radius || Math.min(cx, cx + dx) > rx + rw + radius
+                || Math.max(cy, cy + dy) < ry - radius || Math.min(cy, cy + dy) > ry + rh + radius) {
+            return -1;
+        }
+
+        double best = Double.POSITIVE_INFINITY;
+        double t;
+
+        // 좌우로 반지름만큼 부푼 상자 / 위아래로 반지름만큼 부푼 상자
+        t = rayVsBox(cx, cy, dx, dy, rx - radius, ry, rx + rw + radius, ry + rh, best, normalOut);
+        if (t == STARTS_INSIDE) 
+            return -1;
+        if (t >= 0 && t < best) {
+            best = t;
+        }
+        t = rayVsBox(cx, cy, dx, dy, rx, ry - radius, rx + rw, ry + rh + radius, best, normalOut);
+        if (t == STARTS_INSIDE) 
+            return -1;
+        if (t >= 0 && t < best) {
+            best = t;
+        }
+
+        // 네 꼭짓점의 원
+        for (int corner = 0; corner < 4; corner++) {
+            double kx = (corner & 1) == 0 ? rx : rx + rw;
+            double ky = (corner & 2) == 0 ? ry : ry + rh;
+            t = rayVsCircle(cx, cy, dx, dy, kx, ky, radius);
+            if (t == STARTS_INSIDE) 
+                return -1;
+            if (t >= 0 && t < best) {
+                best = t;
+                normalOut[0] = (cx + dx * t - kx) / radius;
+                normalOut[1] = (cy + dy * t - ky) / radius;
+            }
+        }
+
+        return best <= 1.0 ? best : -1;
+    }
+
+    // 반직선 vs 상자. 시작점이 안에 있으면 STARTS_INSIDE, 닿지 않으면 -1
+    // 충돌 시각이 best보다 빠를 때만 normalOut에 법선을 쓴다 (별도 임시 버퍼 없이 가장 빠른 면만 남긴다)
+    private static double rayVsBox(double ox, double oy, double dx, double dy,
+                                   double minX, double minY, double maxX, double maxY, double best, double[] normalOut) {
+        if (ox > minX && ox < maxX && oy > minY && oy < maxY) 
+            return STARTS_INSIDE;
+
+        double tEnter = Double.NEGATIVE_INFINITY;
+        double tExit = Double.POSITIVE_INFINITY;
+        double nx = 0;
+        double ny = 0;
+
+        if (dx == 0) {
+            if (ox <= minX || ox >= maxX) 
+                return -1;
+        } else {
+            double t1 = (minX - ox) / dx;
+            double t2 = (maxX - ox) / dx;
+            tEnter = Math.min(t1, t2);
+            tExit = Math.max(t1, t2);
+            nx = dx > 0 ? -1 : 1;
+        }
+
+        if (dy == 0) {
+            if (oy <= minY || oy >= maxY) 
+                return -1;
+        } else {
+            double t1 = (minY - oy) / dy;
+            double t2 = (maxY - oy) / dy;
+            double enter = Math.min(t1, t2);
+            tExit = Math.min(tExit, Math.max(t1, t2));
+            if (enter > tEnter) {
+                tEnter = enter;
+                nx = 0;
+                ny = dy > 0 ? -1 : 1;
+            }
+        }
+
+        if (tEnter > tExit || tEnter < 0) 
+            return -1;
+        if (tEnter < best) {
+            normalOut[0] = nx;
+            normalOut[1] = ny;
+        }
+        return tEnter;
+    }
+
+    // 반직선 vs 원. 시작점이 안에 있으면 STARTS_INSIDE, 닿지 않으면 -1
+    private static double rayVsCircle(double ox, double oy, double dx, double dy, double kx, double ky, double radius) {
+        double mx = ox - kx;
+        double my = oy - ky;
+        double c = mx * mx + my * my - radius * radius;
+        if (c < 0) 
+            return STARTS_INSIDE;
+        double a = dx * dx + dy * dy;
+        double b = mx * dx + my * dy;
+        if (a == 0 || b >= 0) 
+            return -1; // 멀어지는 중
+        double disc = b * b - a * c;
+        if (disc < 0) 
+            return -1;
+        return (-b - Math.sqrt(disc)) / a;
+    }
+
+    /** 원(공)과 사각형이 실제로 겹치는지 (사각형 위의 가장 가까운 점까지 거리로 판정) */
+    public static boolean circleIntersectsRect(Ball ball, GameObject rect) {
+        double radius = ball.getWidth() / 2.0;
+        double cx = ball.getPosition().x + radius;
+        double cy = ball.getPosition().y + radius;
+        double nearestX = Math.max(rect.getPosition().x, Math.min(cx, rect.getPosition().x + rect.getWidth()));
+        double nearestY = Math.max(rect.getPosition().y, Math.min(cy, rect.getPosition().y + rect.getHeight()));
+        double ddx = cx - nearestX;
+        double ddy = cy - nearestY;
+        return ddx * ddx + ddy * ddy < radius * radius;
+    }
+
+    // 법선 방향으로 속도 반사. 축 방향 법선이면 기존처럼 부호만 강제로 맞춘다 (이중 반사 방지)
+    private static void reflect(Vector2D v, double nx, double ny) {
+        if (ny == 0) {
+            v.x = nx > 0 ? Math.abs(v.x) : -Math.abs(v.x);
+        } else if (nx == 0) {
+            v.y = ny > 0 ? Math.abs(v.y) : -Math.abs(v.y);
+        } else {
+            double dot = v.x * nx + v.y * ny;
+            if (dot < 0) {
+                v.x -= 2 * dot * nx;
+                v.y -= 2 * dot * ny;
+            }
+        }
+    }
+}
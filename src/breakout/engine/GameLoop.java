@@ -1,19 +1,55 @@
 package breakout.engine;
 
+import java.util.concurrent.locks.LockSupport;
+
 public class GameLoop implements Runnable {
 
+    /**
+     * 프레임 사이 남는 시간을 기다리는 방식.
+     * SLEEP: 남은 시간 전부 sleep (CPU 사용 최소)
+     * SPIN: 마지막 1ms는 sleep 대신 바쁜 대기 (sleep 오차로 인한 프레임 지연 최소)
+     */
+    public enum FrameBudgetMode {
+        SLEEP,
+        SPIN
+    }
+
+    /** 마지막 구간을 바쁜 대기로 처리할 길이 (나노초) */
+    private static final long SPIN_THRESHOLD_NS = 1_000_000L;
+
+    /** 기본 따라잡기 업데이트 최대 횟수 */
+    private static final int DEFAULT_MAX_UPDATES_PER_FRAME = 5;
+
     /** 루프 대상 (게임 상태를 갱신하는 객체) */
     private final Updatable updatable;
 
-    /** 목표 FPS (초당 프레임 수) */
+    /** 렌더링 대상 (없으면 업데이트만 돈다) */
+    private final Renderable renderable;
+
+    /** 목표 UPS (초당 물리 스텝 수) */
+    private final int targetUps;
+
+    /** 목표 FPS (초당 렌더링 수) */
     private final int targetFps;
 
+    /** 한 프레임에서 따라잡기로 돌릴 수 있는 최대 업데이트 횟수 */
+    private final int maxUpdatesPerFrame;
+
     /** 루프 스레드 */
     private Thread loopThread;
 
     /** 루프 실행 여부 플래그 */
     private volatile boolean running = false;
 
+    /** 프레임 대기 방식 */
+    private volatile FrameBudgetMode budgetMode = FrameBudgetMode.SLEEP;
+
+    /** 통계 카운터 */
+    private volatile long frameCount = 0;
+    private volatile long updateCount = 0;
+    private volatile long droppedUpdates = 0;
+    private volatile long lateFrames = 0;
+
     /**
      * GameLoop 생성자.
      *
@@ -21,14 +57,33 @@ public class GameLoop implements Runnable {
      * @param targetFps 목표 FPS (예: 60)
      */
     public GameLoop(Updatable updatable, int targetFps) {
+        this(updatable, null, targetFps, targetFps);
+    }
+
+    /**
+     * 업데이트/렌더링을 분리한 GameLoop 생성자.
+     * 물리는 targetUps 고정 간격으로 돌고, 렌더링은 targetFps로 돌면서 보간 비율을 넘겨받는다.
+     *
+     * @param updatable 고정 간격마다 update()가 호출될 대상
+     * @param renderable 매 렌더 프레임마다 render(alpha)가 호출될 대상 (null 가능)
+     * @param targetUps 목표 UPS (예: 60)
+     * @param targetFps 목표 FPS (예: 디스플레이 주사율)
+     */
+    public GameLoop(Updatable updatable, Renderable renderable, int targetUps, int targetFps) {
         if (updatable == null) {
             throw new IllegalArgumentException("updatable must not be null");
         }
+        if (targetUps <= 0) {
+            throw new IllegalArgumentException("targetUps must be > 0");
+        }
         if (targetFps <= 0) {
             throw new IllegalArgumentException("targetFps must be > 0");
         }
         this.updatable = updatable;
+        this.renderable = renderable;
+        this.targetUps = targetUps;
         this.targetFps = targetFps;
+        this.maxUpdatesPerFrame = DEFAULT_MAX_UPDATES_PER_FRAME;
     }
 
     /**
@@ -60,38 +115,126 @@ public class GameLoop implements Runnable {
         }
     }
 
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void setFrameBudgetMode(FrameBudgetMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("mode must not be null");
+        }
+        this.budgetMode = mode;
+    }
+
+    public FrameBudgetMode getFrameBudgetMode() {
+        return budgetMode;
+    }
+
+    /** 렌더링된 프레임 수 */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /** 실행된 물리 스텝 수 */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /** 따라잡기 한도를 넘어서 버려진 물리 스텝 수 */
+    public long getDroppedUpdates() {
+        return droppedUpdates;
+    }
+
+    /** 목표 시간 안에 끝나지 못한 렌더 프레임 수 */
+    public long getLateFrames() {
+        return lateFrames;
+    }
+
+    public void resetCounters() {
+        frameCount = 0;
+        updateCount = 0;
+        droppedUpdates = 0;
+        lateFrames = 0;
+    }
+
     @Override
     public void run() {
-        // 나노초 단위로 한 프레임 간격 계산
+        // 나노초 단위로 물리 스텝 / 렌더 프레임 간격 계산
+        final double stepInterval = 1_000_000_000.0 / targetUps;
         final double frameInterval = 1_000_000_000.0 / targetFps;
-        double nextFrameTime = System.nanoTime() + frameInterval;
+        long previousTime = System.nanoTime();
+        double accumulator = 0;
+        double nextFrameTime = previousTime + frameInterval;
 
         while (running) {
-            // 1. 게임 상태 업데이트
-            try {
-                updatable.update();
-            } catch (Exception e) {
-                // 예외가 발생해도 루프가 바로 죽지 않도록 방어
-                e.printStackTrace();
+            long now = System.nanoTime();
+            accumulator += now - previousTime;
+            previousTime = now;
+
+            // 1. 고정 간격으로 게임 상태 업데이트 (밀린 만큼 따라잡기)
+            int updates = 0;
+            while (accumulator >= stepInterval && updates < maxUpdatesPerFrame) {
+                try {
+                    updatable.update();
+                } catch (Exception e) {
+                    // 예외가 발생해도 루프가 바로 죽지 않도록 방어
+                    e.printStackTrace();
+                }
+                accumulator -= stepInterval;
+                updates++;
             }
+            updateCount += updates;
 
-            // 2. 남은 시간 계산 후 sleep
-            double remaining = nextFrameTime - System.nanoTime();
-            remaining /= 1_000_000.0; // 나노초 → 밀리초 변환
+            if (accumulator >= stepInterval) {
+                // 너무 밀렸을 때는 따라잡기를 포기하고 남은 시간을 버린다
+                droppedUpdates += (long) (accumulator / stepInterval);
+                accumulator %= stepInterval;
+            }
 
-            if (remaining > 0) {
+            // 2. 보간 비율과 함께 렌더링
+            if (renderable != null) {
                 try {
-                    Thread.sleep((long) remaining);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break; // 인터럽트 시 루프 종료
+                    renderable.render(accumulator / stepInterval);
+                } catch (Exception e) {
+                    e.printStackTrace();
                 }
-            } else {
-                // 남은 시간이 0보다 작으면 (프레임이 밀렸을 때)
-                // 그냥 다음 프레임으로 넘어가되, nextFrameTime만 뒤로 밀어준다.
+            }
+            frameCount++;
+
+            // 3. 남은 시간 대기
+            if (!waitUntil((long) nextFrameTime)) {
+                break; // 인터럽트 시 루프 종료
             }
 
             nextFrameTime += frameInterval;
+            long afterWait = System.nanoTime();
+            if (nextFrameTime < afterWait) {
+                // 프레임이 밀렸을 때는 밀린 프레임을 몰아서 그리지 않고 기준 시간만 뒤로 밀어준다.
+                lateFrames++;
+                nextFrameTime = afterWait + frameInterval;
+            }
+        }
+    }
+
+    private boolean waitUntil(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (budgetMode == FrameBudgetMode.SPIN) {
+            remaining -= SPIN_THRESHOLD_NS;
+        }
+
+        // Thread.sleep(ms, ns)는 나노초 부분이 있으면 1ms를 통째로 더 자므로 parkNanos로 남은 시간만큼만 멈춘다
+        if (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+
+        if (budgetMode == FrameBudgetMode.SPIN) {
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
         }
+        return true;
     }
 }
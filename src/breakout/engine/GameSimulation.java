@@ -0,0 +1,557 @@
+package breakout.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import breakout.entity.Ball;
+import breakout.entity.Brick;
+import breakout.entity.ExplosiveBrick;
+import breakout.entity.Paddle;
+import breakout.entity.PowerUp;
+import breakout.manager.InputManager;
+import breakout.manager.MapGenerator;
+import breakout.manager.PowerUpManager;
+
+/**
+ * 게임 규칙 시뮬레이션 (공, 패들, 벽돌 맵, 아이템, 점수, 콤보, 버프).
+ * Swing이나 javax.sound 없이 step() 한 번에 물리 한 스텝씩 진행하므로
+ * -Djava.awt.headless=true 환경에서도 실시간보다 빠르게 돌릴 수 있다.
+ * 소리/이펙트/화면 흔들림은 SimulationListener로 알려준다.
+ *
+ * 게임마다 세션 시드 하나에서 서브시스템별 난수 스트림을 갈라 쓰므로,
+ * 같은 시드와 같은 입력이면 맵 생성부터 플레이 결과까지 그대로 재현된다.
+ */
+public class GameSimulation {
+
+    public static final int WIDTH = 800;
+    public static final int HEIGHT = 600;
+    /** 초당 물리 스텝 수 (버프 지속 시간 기준) */
+    public static final int FPS = 60;
+
+    private static final double SLOW_FACTOR = 0.7;
+    private static final int SLOW_DURATION = FPS * 10;
+    private static final int PIERCE_DURATION = FPS * 10;
+    private static final int DOUBLE_SCORE_DURATION = FPS * 15;
+    private static final int START_LIVES = 3;
+    /** 목숨을 잃은 뒤 새 공이 움직이기 전까지 멈춰 있는 스텝 수 (0.5초) */
+    public static final int RESPAWN_DELAY = FPS / 2;
+
+    /** 세션 시드를 고정하는 시스템 속성 (16진수) */
+    public static final String SEED_PROPERTY = "breakout.seed";
+    private static boolean badSeedWarned = false;
+
+    /** 상점 행운 뽑기 결과 */
+    public enum LuckyPrize {
+        EXTRA_LIFE, WIDE_PADDLE, SLOW_BALL, PIERCING_BALL, DOUBLE_SCORE
+    }
+
+    private static final SimulationListener NO_LISTENER = new SimulationListener() {
+    };
+
+    private final InputManager input;
+    private final SimulationListener listener;
+
+    private Paddle paddle;
+    private final ArrayList<Ball> balls = new ArrayList<>();
+    private final MapGenerator mapGenerator;
+    private final PowerUpManager powerUpManager = new PowerUpManager();
+    // 격자 조회 결과 버퍼 (공 주변 / 폭발 범위)
+    private final ArrayList<Brick> nearbyBricks = new ArrayList<>();
+    private final ArrayList<Brick> explosionTargets = new ArrayList<>();
+    // 이번 스텝에서 공의 이동 경로상에 맞은 벽돌 (맞은 순서대로)
+    private final ArrayList<Brick> sweptHits = new ArrayList<>();
+    // 충돌 계산 작업 버퍼 (시뮬레이션마다 따로 가지므로 여러 시뮬레이션을 다른 스레드에서 돌려도 된다)
+    private final CollisionDetector.Scratch collisionScratch = new CollisionDetector.Scratch();
+
+    private int score = 0;
+    private int lives = START_LIVES;
+    private int comboCount = 0;
+    private long tickCount = 0;
+    private int respawnTimer = 0;
+    private boolean gameOver = false;
+    private boolean victory = false;
+
+    private long seed;
+    private SplittableRandom luckyRandom;
+    private SplittableRandom effectRandom;
+
+    private boolean doubleScoreActive = false;
+    private int doubleScoreTimer = 0;
+    private boolean piercingActive = false;
+    private int piercingTimer = 0;
+    private boolean slowBallActive = false;
+    private int slowBallTimer = 0;
+    private int bombBallCharges = 0;
+
+    /**
+     * @param input 패들 조작 입력 (헤드리스에서는 left/right 필드를 직접 세팅한다)
+     * @param listener 이벤트 콜백 (null이면 무시)
+     */
+    public GameSimulation(InputManager input, SimulationListener listener) {
+        this.input = input;
+        this.listener = listener != null ? listener : NO_LISTENER;
+        this.mapGenerator = new MapGenerator();
+        seedSession(newSeed());
+        this.paddle = createPaddle();
+        balls.add(createBall(WIDTH / 2 - 10, HEIGHT - 100));
+    }
+
+    /** 새 시드로 레벨을 불러와서 새 게임을 시작한다. */
+    public void startLevel(int level) {
+        startLevel(level, newSeed());
+    }
+
+    /** 주어진 시드로 레벨을 불러와서 새 게임을 시작한다. */
+    public void startLevel(int level, long seed) {
+        reset(seed);
+        mapGenerator.loadLevel(level);
+    }
+
+    /** 에디터에서 만든 벽돌로 새 게임을 시작한다. */
+    public void startCustom(ArrayList<Brick> bricks) {
+        startCustom(bricks, newSeed());
+    }
+
+    public void startCustom(ArrayList<Brick> bricks, long seed) {
+        reset(seed);
+        mapGenerator.setBricks(bricks);
+    }
+
+    private void reset(long seed) {
+        seedSession(seed);
+        clearPowerStates();
+        paddle = createPaddle();
+        balls.clear();
+        balls.add(createBall(WIDTH / 2 - 10, HEIGHT - 100));
+        powerUpManager.clear();
+        score = 0;
+        lives = START_LIVES;
+        comboCount = 0;
+        tickCount = 0;
+        respawnTimer = 0;
+        gameOver = false;
+        victory = false;
+    }
+
+    // 서브시스템마다 항상 같은 순서로 스트림을 갈라낸다 (한쪽에서 더 뽑아도 다른 쪽 결과는 그대로)
+    private void seedSession(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        mapGenerator.setRandom(root.split());
+        powerUpManager.setRandom(root.split());
+        luckyRandom = root.split();
+        effectRandom = root.split();
+    }
+
+    /** breakout.seed 속성이 있으면 그 값, 없으면 새 무작위 시드. */
+    public static long newSeed() {
+        String fixed = System.getProperty(SEED_PROPERTY);
+        if (fixed != null && !fixed.isEmpty()) {
+            try {
+                return Long.parseUnsignedLong(fixed.trim(), 16);
+            } catch (NumberFormatException e) {
+                // 잘못된 값 때문에 게임이 안 켜지면 안 되므로 무작위 시드로 진행한다 (경고는 한 번만)
+                if (!badSeedWarned) {
+                    badSeedWarned = true;
+                    System.err.println("-D" + SEED_PROPERTY + "=" + fixed + " is not a hex seed, using a random seed");
+                }
+            }
+        }
+        return new SplittableRandom().nextLong();
+    }
+
+    /** 화면 표시/입력용 16진수 시드 문자열. */
+    public static String formatSeed(long seed) {
+        return String.format("%016X", seed);
+    }
+
+    private void resetRound() {
+        paddle.resetWidth();
+        paddle.getPosition().x = WIDTH / 2 - 50;
+        paddle.getPosition().y = HEIGHT - 60;
+        paddle.savePreviousPosition();
+        balls.clear();
+        balls.add(createBall(WIDTH / 2 - 10, HEIGHT - 100));
+        powerUpManager.clear();
+        comboCount = 0;
+    }
+
+    /** 렌더 보간용으로 이번 스텝 전 위치를 저장한다. */
+    public void savePreviousPositions() {
+        paddle.savePreviousPosition();
+        for (int i = 0; i < balls.size(); i++) {
+            balls.get(i).savePreviousPosition();
+        }
+        mapGenerator.savePreviousPositions();
+    }
+
+    /** 물리 한 스텝. 게임이 끝났으면 아무것도 하지 않는다. */
+    public void step() {
+        if (gameOver || victory) {
+            return;
+        }
+        tickCount++;
+        // 목숨을 잃은 직후에는 새 공과 패들을 잠깐 세워 둔다 (버프 시간도 흐르지 않는다)
+        if (respawnTimer > 0) {
+            respawnTimer--;
+            return;
+        }
+        tickPowerTimers();
+        paddle.update();
+        powerUpManager.update(this, paddle);
+        mapGenerator.update();
+
+        for (int i = balls.size() - 1; i >= 0; i--) {
+            Ball b = balls.get(i);
+
+            // 이동 경로 전체를 검사해서 빠른 공이 벽돌/패들을 뚫고 지나가지 않게 한다
+            sweptHits.clear();
+            boolean paddleHit = CollisionDetector.sweepBall(b, mapGenerator.getBrickGrid(), paddle, piercingActive, sweptHits,
+                    collisionScratch);
+            b.recordTrail();
+            if (CollisionDetector.handleWallCollision(b, 0, 0, WIDTH, HEIGHT)) {
+                listener.onWallHit(b);
+            }
+
+            // 패들이 움직여서 공과 겹친 경우
+            if (!paddleHit && CollisionDetector.overlaps(b, paddle)) {
+                CollisionDetector.handlePaddleCollision(b, paddle);
+                paddleHit = true;
+            }
+            if (paddleHit && b.getVelocity().y < 0) {
+                comboCount = 0;
+                listener.onPaddleHit(b);
+            }
+
+            for (int k = 0; k < sweptHits.size(); k++) {
+                Brick brick = sweptHits.get(k);
+                if (!brick.isDestroyed) {
+                    onBrickHit(brick);
+                }
+            }
+
+            // 움직이는 벽돌이 공 쪽으로 들어와 겹친 경우
+            mapGenerator.queryBricks(b.getPosition().x, b.getPosition().y, b.getWidth(), b.getHeight(), nearbyBricks);
+            for (int k = 0; k < nearbyBricks.size(); k++) {
+                Brick brick = nearbyBricks.get(k);
+                if (!brick.isDestroyed && !sweptHits.contains(brick) && CollisionDetector.circleIntersectsRect(b, brick)) {
+                    if (!piercingActive) {
+                        CollisionDetector.resolveBallVsRect(b, brick);
+                    }
+                    onBrickHit(brick);
+
+                    if (!piercingActive) {
+                        break;
+                    }
+                }
+            }
+            if (b.getPosition().y > HEIGHT) {
+                balls.remove(i);
+            }
+        }
+
+        if (balls.isEmpty()) {
+            lives--;
+            if (lives > 0) {
+                resetRound();
+                respawnTimer = RESPAWN_DELAY;
+            } else {
+                gameOver = true;
+            }
+            listener.onLifeLost(lives);
+            if (gameOver) {
+                listener.onGameOver();
+            }
+        }
+
+        if (mapGenerator.isCleared()) {
+            victory = true;
+            listener.onVictory();
+        }
+    }
+
+    private void onBrickHit(Brick brick) {
+        brick.hit();
+
+        double cx = brick.getPosition().x + brick.getWidth() / 2;
+        double cy = brick.getPosition().y + brick.getHeight() / 2;
+
+        if (bombBallCharges > 0) {
+            bombBallCharges--;
+            triggerExplosion(brick, true);
+        }
+
+        comboCount++;
+        addScoreWithMultiplier(brick.scoreValue + (comboCount > 1 ? comboCount * 10 : 0));
+
+        if (brick.isDestroyed) {
+            if (brick instanceof ExplosiveBrick) {
+                triggerExplosion(brick, false);
+            }
+            powerUpManager.maybeSpawn(cx, cy);
+        }
+        listener.onBrickHit(brick, cx, cy);
+    }
+
+    private void triggerExplosion(Brick b, boolean bombBall) {
+        // 폭발 범위: 벽돌 기준 좌우 80, 위아래 30
+        double rx = (int) b.getPosition().x - 80;
+        double ry = (int) b.getPosition().y - 30;
+        mapGenerator.queryBricks(rx, ry, 240, 90, explosionTargets);
+        for (int i = 0; i < explosionTargets.size(); i++) {
+            Brick target = explosionTargets.get(i);
+            if (!target.isDestroyed && target != b && target.intersects(rx, ry, 240, 90)) {
+                target.hit();
+                if (target.isDestroyed) {
+                    addScoreWithMultiplier(target.scoreValue);
+                }
+            }
+        }
+        listener.onExplosion(b, bombBall);
+    }
+
+    /** 패들이 아이템을 먹었을 때 PowerUpManager가 호출한다. */
+    public void collectPowerUp(PowerUp powerUp) {
+        listener.onPowerUpCollected(powerUp);
+        powerUp.applyEffect(this);
+    }
+
+    private void tickPowerTimers() {
+        if (doubleScoreActive && --doubleScoreTimer <= 0) {
+            doubleScoreActive = false;
+        }
+        if (piercingActive && --piercingTimer <= 0) {
+            piercingActive = false;
+        }
+        if (slowBallActive && --slowBallTimer <= 0) {
+            disableSlowBall();
+        }
+    }
+
+    private void disableSlowBall() {
+        for (Ball b : balls) {
+            b.getVelocity().x /= SLOW_FACTOR;
+            b.getVelocity().y /= SLOW_FACTOR;
+        }
+        slowBallActive = false;
+    }
+
+    private void clearPowerStates() {
+        doubleScoreActive = piercingActive = slowBallActive = false;
+        bombBallCharges = 0;
+    }
+
+    private void addScoreWithMultiplier(int amount) {
+        score += doubleScoreActive ? amount * 2 : amount;
+    }
+
+    public void addLife() {
+        lives++;
+    }
+
+    public void expandPaddle() {
+        paddle.expand();
+    }
+
+    public void activateDoubleScore() {
+        doubleScoreActive = true;
+        doubleScoreTimer = DOUBLE_SCORE_DURATION;
+    }
+
+    public void activatePiercingBall() {
+        piercingActive = true;
+        piercingTimer = PIERCE_DURATION;
+    }
+
+    public void activateSlowBall() {
+        if (!slowBallActive) {
+            for (Ball b : balls) {
+                b.getVelocity().x *= SLOW_FACTOR;
+                b.getVelocity().y *= SLOW_FACTOR;
+            }
+        }
+        slowBallActive = true;
+        slowBallTimer = SLOW_DURATION;
+    }
+
+    /** 패들 모양 (Paddle.SHAPE_*). 새 게임을 시작하면 기본 모양으로 돌아간다. */
+    public void setPaddleShape(int shapeType) {
+        paddle.setShapeType(shapeType);
+    }
+
+    public void addBombBallCharge() {
+        bombBallCharges++;
+    }
+
+    public void spawnMultiBall(int extraCount) {
+        if (balls.isEmpty()) {
+            return;
+        }
+        Ball base = balls.get(0);
+        Vector2D baseVel = base.getVelocity();
+        double speed = baseVel.magnitude();
+        if (speed < 1.0) {
+            speed = 5.0;
+        }
+        double baseAngle = Math.atan2(baseVel.y, baseVel.x);
+        for (int i = 0; i < extraCount; i++) {
+            double newAngle = baseAngle + Math.toRadians((i + 1) * 20);
+            double vx = speed * Math.cos(newAngle);
+            double vy = speed * Math.sin(newAngle);
+            Ball newBall = new Ball(base.getPosition().x, base.getPosition().y);
+            newBall.setVelocity(new Vector2D(vx, vy));
+            listener.onBallCreated(newBall);
+            balls.add(newBall);
+        }
+    }
+
+    /** 행운 뽑기: 다섯 가지 효과 중 하나를 세션 난수로 골라 적용한다. */
+    public LuckyPrize applyLuckyDraw() {
+        LuckyPrize prize = rollLuckyPrize();
+        switch (prize) {
+            case EXTRA_LIFE:
+                addLife();
+                break;
+            case WIDE_PADDLE:
+                expandPaddle();
+                break;
+            case SLOW_BALL:
+                activateSlowBall();
+                break;
+            case PIERCING_BALL:
+                activatePiercingBall();
+                break;
+            case DOUBLE_SCORE:
+                activateDoubleScore();
+                break;
+        }
+        return prize;
+    }
+
+    private LuckyPrize rollLuckyPrize() {
+        int roll = luckyRandom.nextInt(100);
+        if (roll < 20) {
+            return LuckyPrize.EXTRA_LIFE;
+        }
+        if (roll < 40) {
+            return LuckyPrize.WIDE_PADDLE;
+        }
+        if (roll < 60) {
+            return LuckyPrize.SLOW_BALL;
+        }
+        if (roll < 80) {
+            return LuckyPrize.PIERCING_BALL;
+        }
+        return LuckyPrize.DOUBLE_SCORE;
+    }
+
+    public void spendScore(int amount) {
+        score = Math.max(0, score - amount);
+    }
+
+    private Paddle createPaddle() {
+        return new Paddle(WIDTH / 2 - 50, HEIGHT - 60, input);
+    }
+
+    private Ball createBall(double x, double y) {
+        Ball newBall = new Ball(x, y);
+        if (slowBallActive) {
+            newBall.getVelocity().x *= SLOW_FACTOR;
+            newBall.getVelocity().y *= SLOW_FACTOR;
+        }
+        listener.onBallCreated(newBall);
+        return newBall;
+    }
+
+    public Paddle getPaddle() {
+        return paddle;
+    }
+
+    public List<Ball> getBalls() {
+        return balls;
+    }
+
+    public MapGenerator getMapGenerator() {
+        return mapGenerator;
+    }
+
+    public PowerUpManager getPowerUpManager() {
+        return powerUpManager;
+    }
+
+    public InputManager getInput() {
+        return input;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getComboCount() {
+        return comboCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /** 파티클 등 이펙트용 난수 (게임 결과에는 영향 없음). */
+    public SplittableRandom getEffectRandom() {
+        return effectRandom;
+    }
+
+    /** 마지막 startLevel/startCustom 이후 진행한 스텝 수. */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /** 목숨을 잃은 뒤 다음 라운드가 시작되기까지 남은 스텝 수 (0이면 진행 중). */
+    public int getRespawnTimer() {
+        return respawnTimer;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public boolean isVictory() {
+        return victory;
+    }
+
+    public boolean isFinished() {
+        return gameOver || victory;
+    }
+
+    public boolean isDoubleScoreActive() {
+        return doubleScoreActive;
+    }
+
+    public int getDoubleScoreTimer() {
+        return doubleScoreTimer;
+    }
+
+    public boolean isPiercingActive() {
+        return piercingActive;
+    }
+
+    public int getPiercingTimer() {
+        return piercingTimer;
+    }
+
+    public boolean isSlowBallActive() {
+        return slowBallActive;
+    }
+
+    public int getSlowBallTimer() {
+        return slowBallTimer;
+    }
+
+    public int getBombBallCharges() {
+        return bombBallCharges;
+    }
+}
@@ -0,0 +1,9 @@
+package breakout.engine;
+
+
+public interface Renderable {
+	/**
+	 * @param alpha 직전 물리 스텝과 현재 물리 스텝 사이의 보간 비율 (0~1)
+	 */
+	void render(double alpha);
+}
@@ -0,0 +1,154 @@
+package breakout.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+
+/**
+ * 리플레이 파일 형식 (.bkr).
+ *
+ * 헤더: "BKRP" 4바이트, 버전 1바이트, 세션 시드 8바이트(빅엔디언), 레벨 varint
+ * 본문: 이벤트 나열. 이벤트마다 varint 하나에 (직전 이벤트 이후 지난 스텝 수 << 3 | 종류)를 담고,
+ * 종류별 값이 뒤따른다. 키 상태는 바뀐 스텝에만, 마우스는 바뀐 만큼(차이값)만 적는다.
+ * 마지막은 END 이벤트 (최종 점수/목숨, 재생 결과 검증용).
+ * 패들 모양은 반사 각도를 바꾸므로 첫 스텝 전(과 게임 중 바꿀 때마다) PADDLE_SHAPE 명령으로 적는다.
+ *
+ * 스텝 번호는 그 이벤트 전까지 진행된 시뮬레이션 스텝 수다. 같은 스텝 번호의 이벤트는 그 스텝 전에 적용한다.
+ */
+public final class Replay {
+
+    static final byte[] MAGIC = {'B', 'K', 'R', 'P'};
+    static final int VERSION = 2;
+
+    // 이벤트 종류 (3비트)
+    static final int EVENT_KEYS = 0;          // + 키 비트마스크 1바이트
+    static final int EVENT_MOUSE_MOVE = 1;    // + zigzag dx, zigzag dy
+    static final int EVENT_MOUSE_PRESS = 2;
+    static final int EVENT_MOUSE_RELEASE = 3;
+    static final int EVENT_COMMAND = 4;       // + 명령 번호 varint, 값 varint
+    static final int EVENT_END = 7;           // + 최종 점수 varint, 남은 목숨 varint
+    static final int EVENT_BITS = 3;
+
+    // 키 비트마스크
+    static final int KEY_LEFT = 1;
+    static final int KEY_RIGHT = 1 << 1;
+    static final int KEY_SPACE = 1 << 2;
+    static final int KEY_ESCAPE = 1 << 3;
+
+    /** 스텝 사이에 시뮬레이션 상태를 바꾸는 조작 (상점 구매 등). 번호는 ordinal 순서로 저장되므로 끝에만 추가한다. */
+    public enum Command {
+        SPEND_SCORE,
+        EXPAND_PADDLE,
+        SLOW_BALL,
+        ADD_LIFE,
+        PIERCING_BALL,
+        DOUBLE_SCORE,
+        LUCKY_DRAW,
+        BOMB_BALL,
+        MULTI_BALL,
+        PADDLE_SHAPE
+    }
+
+    private Replay() {
+
+    }
+
+    /** 재생할 때 기록된 조작을 시뮬레이션에 그대로 적용한다. */
+    static void apply(GameSimulation sim, Command command, int value) {
+        switch (command) {
+            case SPEND_SCORE:
+                sim.spendScore(value);
+                break;
+            case EXPAND_PADDLE:
+                sim.expandPaddle();
+                break;
+            case SLOW_BALL:
+                sim.activateSlowBall();
+                break;
+            case ADD_LIFE:
+                sim.addLife();
+                break;
+            case PIERCING_BALL:
+                sim.activatePiercingBall();
+                break;
+            case DOUBLE_SCORE:
+                sim.activateDoubleScore();
+                break;
+            case LUCKY_DRAW:
+                sim.applyLuckyDraw();
+                break;
+            case BOMB_BALL:
+                sim.addBombBallCharge();
+                break;
+            case MULTI_BALL:
+                sim.spawnMultiBall(value);
+                break;
+            case PADDLE_SHAPE:
+                sim.setPaddleShape(value);
+                break;
+        }
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static void writeSignedVarint(ByteArrayOutputStream out, long value) {
+        // zigzag: 작은 음수도 짧게 (0, -1, 1, -2 ... -> 0, 1, 2, 3 ...)
+        writeVarint(out, (value << 1) ^ (value >> 63));
+    }
+
+    /** byte[] 위에서 앞으로만 읽는 커서. */
+    static final class Reader {
+        private final byte[] data;
+        private int pos;
+
+        Reader(byte[] data) {
+            this(data, 0);
+        }
+
+        Reader(byte[] data, int pos) {
+            this.data = data;
+            this.pos = pos;
+        }
+
+        int position() {
+            return pos;
+        }
+
+        int readByte() throws EOFException {
+            if (pos >= data.length) {
+                throw new EOFException("replay truncated at byte " + pos);
+            }
+            return data[pos++] & 0xFF;
+        }
+
+        long readLong() throws EOFException {
+            long v = 0;
+            for (int i = 0; i < 8; i++) {
+                v = (v << 8) | readByte();
+            }
+            return v;
+        }
+
+        long readVarint() throws EOFException {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return v;
+                }
+            }
+            throw new EOFException("malformed varint at byte " + pos);
+        }
+
+        long readSignedVarint() throws EOFException {
+            long v = readVarint();
+            return (v >>> 1) ^ -(v & 1);
+        }
+    }
+}
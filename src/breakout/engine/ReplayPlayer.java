@@ -0,0 +1,292 @@
+package breakout.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+import breakout.manager.InputManager;
+import breakout.manager.MouseHandler;
+
+/**
+ * 리플레이 파일을 읽어서 GameSimulation을 그대로 다시 돌린다.
+ * 기록된 시드로 같은 레벨을 시작하고, 스텝마다 기록된 키 상태와 상점 조작을 적용한다.
+ * 마우스 이벤트는 MouseHandler를 넘기면 그 위치/버튼 상태로 반영한다.
+ *
+ * 사용법: java -Djava.awt.headless=true breakout.engine.ReplayPlayer 파일.bkr [배속(1~100) | max]
+ * 스텝별 소요 시간을 재서 가장 느린 스텝을 알려주고, 최종 점수가 기록과 같은지 확인한다.
+ */
+public class ReplayPlayer {
+
+    public static final int MAX_SPEED = 100;
+    private static final int SLOWEST_REPORTED = 5;
+
+    private final byte[] data;
+    private final long seed;
+    private final int level;
+    private final int bodyStart;
+    // 파일 전체를 한 번 훑어서 알아둔 값
+    private final long totalTicks;
+    private final int expectedScore;
+    private final int expectedLives;
+
+    // 재생 상태
+    private Replay.Reader reader;
+    private long tick;
+    private long nextEventTick;
+    private int nextEventType;
+    private boolean ended;
+    private int mouseX;
+    private int mouseY;
+
+    public ReplayPlayer(byte[] data) throws IOException {
+        this.data = data;
+        Replay.Reader r = new Replay.Reader(data);
+        for (int i = 0; i < Replay.MAGIC.length; i++) {
+            if (r.readByte() != Replay.MAGIC[i]) {
+                throw new IOException("not a replay file");
+            }
+        }
+        int version = r.readByte();
+        if (version != Replay.VERSION) {
+            throw new IOException("unsupported replay version " + version);
+        }
+        seed = r.readLong();
+        level = (int) r.readVarint();
+        bodyStart = r.position();
+
+        // 끝까지 읽어서 형식을 검증하고 전체 스텝 수와 기록된 결과를 얻는다
+        long t = 0;
+        while (true) {
+            long header = r.readVarint();
+            t += header >>> Replay.EVENT_BITS;
+            int type = (int) (header & ((1 << Replay.EVENT_BITS) - 1));
+            if (type == Replay.EVENT_END) {
+                totalTicks = t;
+                expectedScore = (int) r.readVarint();
+                expectedLives = (int) r.readVarint();
+                break;
+            }
+            skipPayload(r, type);
+        }
+    }
+
+    public static ReplayPlayer load(File file) throws IOException {
+        return new ReplayPlayer(Files.readAllBytes(file.toPath()));
+    }
+
+    private static void skipPayload(Replay.Reader r, int type) throws IOException {
+        switch (type) {
+            case Replay.EVENT_KEYS:
+                r.readByte();
+                break;
+            case Replay.EVENT_MOUSE_MOVE:
+                r.readSignedVarint();
+                r.readSignedVarint();
+                break;
+            case Replay.EVENT_MOUSE_PRESS:
+            case Replay.EVENT_MOUSE_RELEASE:
+                break;
+            case Replay.EVENT_COMMAND:
+                readCommand(r);
+                r.readVarint();
+                break;
+            default:
+                throw new IOException("unknown replay event " + type);
+        }
+    }
+
+    private static Replay.Command readCommand(Replay.Reader r) throws IOException {
+        long code = r.readVarint();
+        Replay.Command[] commands = Replay.Command.values();
+        if (code < 0 || code >= commands.length) {
+            throw new IOException("unknown replay command " + code);
+        }
+        return commands[(int) code];
+    }
+
+    /** 기록된 시드/레벨로 새 게임을 시작하고 처음부터 재생할 준비를 한다. */
+    public void start(GameSimulation sim) throws IOException {
+        if (level == 0) {
+            throw new IOException("custom editor levels are not stored in replays");
+        }
+        sim.startLevel(level, seed);
+        InputManager input = sim.getInput();
+        input.left = input.right = input.space = input.escape = false;
+
+        reader = new Replay.Reader(data, bodyStart);
+        tick = 0;
+        nextEventTick = 0;
+        ended = false;
+        mouseX = 0;
+        mouseY = 0;
+        readNextEvent();
+    }
+
+    /**
+     * 이번 스텝에 기록된 이벤트를 적용하고 시뮬레이션을 한 스텝 진행한다.
+     *
+     * @return 기록이 끝나서 더 진행할 스텝이 없으면 false
+     */
+    public boolean step(GameSimulation sim, MouseHandler mouse) throws IOException {
+        while (!ended && nextEventTick == tick) {
+            applyEvent(sim, mouse);
+            readNextEvent();
+        }
+        if (ended && tick >= totalTicks) {
+            return false;
+        }
+        sim.step();
+        tick++;
+        return true;
+    }
+
+    private void readNextEvent() throws IOException {
+        long header = reader.readVarint();
+        nextEventTick += header >>> Replay.EVENT_BITS;
+        nextEventType = (int) (header & ((1 << Replay.EVENT_BITS) - 1));
+        if (nextEventType == Replay.EVENT_END) {
+            ended = true;
+        }
+    }
+
+    private void applyEvent(GameSimulation sim, MouseHandler mouse) throws IOException {
+        switch (nextEventType) {
+            case Replay.EVENT_KEYS:
+                int keys = reader.readByte();
+                InputManager input = sim.getInput();
+                input.left = (keys & Replay.KEY_LEFT) != 0;
+                input.right = (keys & Replay.KEY_RIGHT) != 0;
+                input.space = (keys & Replay.KEY_SPACE) != 0;
+                input.escape = (keys & Replay.KEY_ESCAPE) != 0;
+                break;
+            case Replay.EVENT_MOUSE_MOVE:
+                mouseX += (int) reader.readSignedVarint();
+                mouseY += (int) reader.readSignedVarint();
+                if (mouse != null) {
+                    mouse.x = mouseX;
+                    mouse.y = mouseY;
+                }
+                break;
+            case Replay.EVENT_MOUSE_PRESS:
+            case Replay.EVENT_MOUSE_RELEASE:
+                if (mouse != null) {
+                    mouse.isPressed = nextEventType == Replay.EVENT_MOUSE_PRESS;
+                    mouse.clicked = mouse.isPressed;
+                }
+                break;
+            case Replay.EVENT_COMMAND:
+                Replay.Command command = readCommand(reader);
+                Replay.apply(sim, command, (int) reader.readVarint());
+                break;
+            default:
+                throw new IOException("unknown replay event " + nextEventType);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    public int getExpectedScore() {
+        return expectedScore;
+    }
+
+    public int getExpectedLives() {
+        return expectedLives;
+    }
+
+    /**
+     * 재생한 결과가 기록과 같은지 (점수와 남은 목숨).
+     */
+    public boolean matches(GameSimulation sim) {
+        return sim.getScore() == expectedScore && Math.max(0, sim.getLives()) == expectedLives;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("usage: ReplayPlayer <file.bkr> [speed 1-" + MAX_SPEED + " | max]");
+            return;
+        }
+        ReplayPlayer player = load(new File(args[0]));
+        // 배속: 1~100배로 맞춰 재생, max면 쉬지 않고 최대 속도
+        double speed = MAX_SPEED;
+        if (args.length > 1) {
+            speed = "max".equalsIgnoreCase(args[1]) ? 0 : Math.max(1, Math.min(MAX_SPEED, Double.parseDouble(args[1])));
+        }
+        long period = speed > 0 ? (long) (1_000_000_000.0 / (GameSimulation.FPS * speed)) : 0;
+
+        GameSimulation sim = new GameSimulation(new InputManager(), null);
+        player.start(sim);
+
+        long[] stepNanos = new long[(int) player.getTotalTicks()];
+        int steps = 0;
+        long start = System.nanoTime();
+        long next = start;
+        while (true) {
+            long t0 = System.nanoTime();
+            if (!player.step(sim, null)) {
+                break;
+            }
+            stepNanos[steps++] = System.nanoTime() - t0;
+            if (period > 0) {
+                next += period;
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("[ReplayPlayer] seed %s, level %d, %d ticks (%.1f s of play) in %.2f s (%.0fx)%n",
+                GameSimulation.formatSeed(player.getSeed()), player.getLevel(), steps,
+                steps / (double) GameSimulation.FPS, seconds, steps / (double) GameSimulation.FPS / seconds);
+        printStepTimes(stepNanos, steps);
+        System.out.printf("[ReplayPlayer] result: score %d (recorded %d), lives %d (recorded %d) -> %s%n",
+                sim.getScore(), player.getExpectedScore(), Math.max(0, sim.getLives()), player.getExpectedLives(),
+                player.matches(sim) ? "MATCH" : "MISMATCH");
+    }
+
+    // 스텝 시간 분포와 가장 느린 스텝들 (스파이크가 난 게임 내 시각을 찾는 용도)
+    private static void printStepTimes(long[] stepNanos, int steps) {
+        if (steps == 0) {
+            return;
+        }
+        long[] sorted = Arrays.copyOf(stepNanos, steps);
+        Arrays.sort(sorted);
+        long total = 0;
+        for (int i = 0; i < steps; i++) {
+            total += sorted[i];
+        }
+        System.out.printf("[ReplayPlayer] step time: mean %.1f us, p99 %.1f us, max %.1f us%n",
+                total / (double) steps / 1000.0, sorted[(int) Math.min(steps - 1, steps * 0.99)] / 1000.0,
+                sorted[steps - 1] / 1000.0);
+
+        int[] slowest = new int[Math.min(SLOWEST_REPORTED, steps)];
+        Arrays.fill(slowest, -1);
+        for (int i = 0; i < steps; i++) {
+            // 작은 고정 크기 목록에 삽입 정렬
+            for (int k = 0; k < slowest.length; k++) {
+                if (slowest[k] < 0 || stepNanos[i] > stepNanos[slowest[k]]) {
+                    System.arraycopy(slowest, k, slowest, k + 1, slowest.length - k - 1);
+                    slowest[k] = i;
+                    break;
+                }
+            }
+        }
+        for (int idx : slowest) {
+            System.out.printf("[ReplayPlayer]   tick %d (t=%.2f s): %.1f us%n",
+                    idx, idx / (double) GameSimulation.FPS, stepNanos[idx] / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package breakout.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+
+import breakout.manager.InputManager;
+import breakout.manager.MouseHandler;
+
+/**
+ * 한 판 동안의 입력을 리플레이 형식(Replay 참고)으로 메모리에 기록한다.
+ * 스텝마다 키 상태를, 게임 스레드 업데이트마다 마우스 상태를 넘겨주면 바뀐 것만 적는다.
+ * 상점 구매처럼 스텝 사이에 상태를 바꾸는 조작은 recordCommand로 적는다.
+ */
+public class ReplayRecorder {
+
+    private final long seed;
+    private final int level;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+
+    private long tick = 0;
+    private long lastEventTick = 0;
+    private int lastKeys = 0;
+    private int lastMouseX = 0;
+    private int lastMouseY = 0;
+    private boolean lastMousePressed = false;
+    private boolean finished = false;
+
+    public ReplayRecorder(long seed, int level) {
+        this.seed = seed;
+        this.level = level;
+
+        out.write(Replay.MAGIC, 0, Replay.MAGIC.length);
+        out.write(Replay.VERSION);
+        for (int i = 56; i >= 0; i -= 8) {
+            out.write((int) (seed >>> i));
+        }
+        Replay.writeVarint(out, level);
+    }
+
+    /** sim.step() 직전에 호출한다. 키 상태가 바뀌었으면 적고 스텝 번호를 하나 올린다. */
+    public void recordStep(InputManager input) {
+        int keys = (input.left ? Replay.KEY_LEFT : 0)
+                | (input.right ? Replay.KEY_RIGHT : 0)
+                | (input.space ? Replay.KEY_SPACE : 0)
+                | (input.escape ? Replay.KEY_ESCAPE : 0);
+        if (keys != lastKeys) {
+            writeEvent(Replay.EVENT_KEYS);
+            out.write(keys);
+            lastKeys = keys;
+        }
+        tick++;
+    }
+
+    /** 마우스 위치/버튼이 바뀌었으면 적는다. */
+    public void recordMouse(MouseHandler mouse) {
+        if (mouse.x != lastMouseX || mouse.y != lastMouseY) {
+            writeEvent(Replay.EVENT_MOUSE_MOVE);
+            Replay.writeSignedVarint(out, mouse.x - lastMouseX);
+            Replay.writeSignedVarint(out, mouse.y - lastMouseY);
+            lastMouseX = mouse.x;
+            lastMouseY = mouse.y;
+        }
+        if (mouse.isPressed != lastMousePressed) {
+            writeEvent(mouse.isPressed ? Replay.EVENT_MOUSE_PRESS : Replay.EVENT_MOUSE_RELEASE);
+            lastMousePressed = mouse.isPressed;
+        }
+    }
+
+    public void recordCommand(Replay.Command command, int value) {
+        writeEvent(Replay.EVENT_COMMAND);
+        Replay.writeVarint(out, command.ordinal());
+        Replay.writeVarint(out, value);
+    }
+
+    private void writeEvent(int type) {
+        if (finished) {
+            throw new IllegalStateException("recording already finished");
+        }
+        Replay.writeVarint(out, ((tick - lastEventTick) << Replay.EVENT_BITS) | type);
+        lastEventTick = tick;
+    }
+
+    /** 기록을 마치고 최종 결과를 붙인 파일 내용을 돌려준다. */
+    public byte[] finish(int score, int lives) {
+        writeEvent(Replay.EVENT_END);
+        Replay.writeVarint(out, score);
+        Replay.writeVarint(out, Math.max(0, lives));
+        finished = true;
+        return out.toByteArray();
+    }
+
+    /**
+     * 기록을 마치고 dir 아래 replay-(시드)-(시각).bkr 파일로 저장한다.
+     * 파일 쓰기는 작업 스레드에서 하므로 게임 스레드는 멈추지 않는다.
+     */
+    public CompletableFuture<File> saveAsync(File dir, int score, int lives) {
+        byte[] data = finish(score, lives);
+        String name = "replay-" + GameSimulation.formatSeed(seed) + "-" + System.currentTimeMillis() + ".bkr";
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectories(dir.toPath());
+                File file = new File(dir, name);
+                Files.write(file.toPath(), data);
+                return file;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public long getTickCount() {
+        return tick;
+    }
+}
@@ -0,0 +1,56 @@
+package breakout.engine;
+
+import breakout.entity.Ball;
+import breakout.entity.Brick;
+import breakout.entity.PowerUp;
+
+/**
+ * GameSimulation에서 일어난 일을 화면/소리 쪽으로 알려주는 콜백.
+ * 시뮬레이션은 규칙만 처리하고, 효과음/파티클/화면 흔들림/업적은 여기서 받아 처리한다.
+ * 헤드리스로 돌릴 때는 필요한 것만 구현하면 된다.
+ */
+public interface SimulationListener {
+
+    /** 공이 새로 만들어졌다 (스킨 적용 등). */
+    default void onBallCreated(Ball ball) {
+    }
+
+    /** 공이 벽에 튕겼다. */
+    default void onWallHit(Ball ball) {
+    }
+
+    /** 공이 패들에 맞고 위로 튕겼다. 콤보는 이미 초기화된 상태다. */
+    default void onPaddleHit(Ball ball) {
+    }
+
+    /**
+     * 공이 벽돌을 때렸다. 점수/콤보가 반영되고, 파괴됐다면 연쇄 폭발과 아이템 생성까지 끝난 뒤 호출된다.
+     *
+     * @param cx 벽돌 중심 x
+     * @param cy 벽돌 중심 y
+     */
+    default void onBrickHit(Brick brick, double cx, double cy) {
+    }
+
+    /**
+     * 벽돌 주변이 폭발했다.
+     *
+     * @param bombBall 폭탄 공 충전으로 터진 경우 true, 폭발 벽돌이 깨져서 터진 경우 false
+     */
+    default void onExplosion(Brick source, boolean bombBall) {
+    }
+
+    /** 패들이 아이템을 먹었다 (효과 적용 직전). */
+    default void onPowerUpCollected(PowerUp powerUp) {
+    }
+
+    /** 공이 모두 떨어져 목숨을 잃었다. 남은 목숨이 있으면 라운드는 이미 다시 세팅됐고 RESPAWN_DELAY 스텝 뒤에 움직이기 시작한다. */
+    default void onLifeLost(int livesLeft) {
+    }
+
+    default void onGameOver() {
+    }
+
+    default void onVictory() {
+    }
+}
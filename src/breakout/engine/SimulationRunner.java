@@ -0,0 +1,88 @@
+package breakout.engine;
+
+import java.util.List;
+
+import breakout.entity.Ball;
+import breakout.entity.Paddle;
+import breakout.manager.InputManager;
+
+/**
+ * 화면 없이 GameSimulation을 최대 속도로 돌리는 배치 실행기 (소크 테스트/봇 평가용).
+ * 패들은 가장 아래쪽에서 내려오는 공을 따라가는 단순한 봇이 조작한다.
+ *
+ * 사용법: java -Djava.awt.headless=true breakout.engine.SimulationRunner [게임 수] [레벨] [게임당 최대 스텝]
+ * -Dbreakout.seed=16진수 를 주면 모든 게임이 같은 시드로 돌아서 결과가 매번 같다.
+ */
+public final class SimulationRunner {
+
+    // 공 중심이 패들 중심에서 이만큼 벗어나야 움직인다 (좌우 떨림 방지)
+    private static final double DEAD_ZONE = 8.0;
+
+    private SimulationRunner() {
+
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int level = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        long maxTicks = args.length > 2 ? Long.parseLong(args[2]) : GameSimulation.FPS * 60 * 10L;
+
+        InputManager input = new InputManager();
+        GameSimulation sim = new GameSimulation(input, null);
+
+        long totalTicks = 0;
+        int wins = 0;
+        long start = System.nanoTime();
+        for (int g = 0; g < games; g++) {
+            sim.startLevel(level);
+            while (!sim.isFinished() && sim.getTickCount() < maxTicks) {
+                steerPaddle(sim, input);
+                sim.savePreviousPositions();
+                sim.step();
+            }
+            totalTicks += sim.getTickCount();
+            if (sim.isVictory()) {
+                wins++;
+            }
+            System.out.printf("[SimulationRunner] game %d (seed %s): %s, score %d, lives %d, bricks left %d, %d ticks%n",
+                    g + 1, GameSimulation.formatSeed(sim.getSeed()), sim.isVictory() ? "clear" : (sim.isGameOver() ? "game over" : "timeout"),
+                    sim.getScore(), sim.getLives(), sim.getMapGenerator().getLiveBrickCount(), sim.getTickCount());
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        double simulated = totalTicks / (double) GameSimulation.FPS;
+        System.out.printf("[SimulationRunner] %d games (%d cleared), %d ticks in %.2f s: %.0f ticks/s, %.0fx real time%n",
+                games, wins, totalTicks, seconds, totalTicks / seconds, simulated / seconds);
+    }
+
+    /** 가장 아래에서 내려오고 있는 공(없으면 가장 아래 공) 쪽으로 패들을 움직인다. */
+    public static void steerPaddle(GameSimulation sim, InputManager input) {
+        Paddle paddle = sim.getPaddle();
+        List<Ball> balls = sim.getBalls();
+        Ball target = null;
+        for (int i = 0; i < balls.size(); i++) {
+            Ball b = balls.get(i);
+            if (target == null) {
+                target = b;
+                continue;
+            }
+            boolean falling = b.getVelocity().y > 0;
+            boolean targetFalling = target.getVelocity().y > 0;
+            if ((falling && !targetFalling) || (falling == targetFalling && b.getPosition().y > target.getPosition().y)) {
+                target = b;
+            }
+        }
+
+        input.left = false;
+        input.right = false;
+        if (target == null) {
+            return;
+        }
+        double ballCenter = target.getPosition().x + target.getWidth() / 2;
+        double paddleCenter = paddle.getPosition().x + paddle.getWidth() / 2;
+        if (ballCenter < paddleCenter - DEAD_ZONE) {
+            input.left = true;
+        } else if (ballCenter > paddleCenter + DEAD_ZONE) {
+            input.right = true;
+        }
+    }
+}
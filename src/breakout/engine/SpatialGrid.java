@@ -0,0 +1,201 @@
+package breakout.engine;
+
+import java.util.Arrays;
+import java.util.List;
+
+import breakout.entity.GameObject;
+
+/**
+ * 균일 격자 기반 공간 인덱스.
+ * 객체의 바운딩 박스가 걸치는 칸마다 객체 번호(리스트 인덱스)를 저장해 두고,
+ * 주어진 영역과 겹치는 칸에 들어있는 객체만 돌려준다.
+ * 움직이는 객체는 update(index)로 걸치는 칸이 바뀌었을 때만 다시 등록한다.
+ *
+ * @param <T> 인덱싱할 객체 타입
+ */
+public class SpatialGrid<T extends GameObject> {
+
+    private static final int INITIAL_CELL_CAPACITY = 4;
+
+    private final int cellWidth;
+    private final int cellHeight;
+    private final int cols;
+    private final int rows;
+
+    // 칸별 객체 번호 목록 (순서는 보장하지 않는다)
+    private final int[][] cells;
+    private final int[] cellCounts;
+
+    private List<T> items;
+
+    // 객체별로 현재 등록된 칸 범위
+    private int[] minCol = new int[0];
+    private int[] minRow = new int[0];
+    private int[] maxCol = new int[0];
+    private int[] maxRow = new int[0];
+
+    // 한 번의 조회에서 여러 칸에 걸친 객체를 중복 없이 모으기 위한 표식
+    private int[] stamps = new int[0];
+    private int currentStamp = 0;
+    private int[] queryBuffer = new int[0];
+
+    /**
+     * @param worldWidth 인덱싱할 영역의 너비
+     * @param worldHeight 인덱싱할 영역의 높이
+     * @param cellWidth 한 칸의 너비
+     * @param cellHeight 한 칸의 높이
+     */
+    public SpatialGrid(int worldWidth, int worldHeight, int cellWidth, int cellHeight) {
+        if (cellWidth <= 0 || cellHeight <= 0) {
+            throw new IllegalArgumentException("cell size must be > 0");
+        }
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.cols = Math.max(1, (worldWidth + cellWidth - 1) / cellWidth);
+        this.rows = Math.max(1, (worldHeight + cellHeight - 1) / cellHeight);
+        this.cells = new int[cols * rows][INITIAL_CELL_CAPACITY];
+        this.cellCounts = new int[cols * rows];
+    }
+
+    /** 객체 목록 전체를 다시 등록한다 (레벨 로드 시). */
+    public void rebuild(List<T> items) {
+        this.items = items;
+        Arrays.fill(cellCounts, 0);
+
+        int n = items.size();
+        if (minCol.length < n) {
+            minCol = new int[n];
+            minRow = new int[n];
+            maxCol = new int[n];
+            maxRow = new int[n];
+            stamps = new int[n];
+            queryBuffer = new int[n];
+        }
+        Arrays.fill(stamps, 0);
+        currentStamp = 0;
+
+        for (int i = 0; i < n; i++) {
+            T item = items.get(i);
+            minCol[i] = toCol(item.getPosition().x);
+            minRow[i] = toRow(item.getPosition().y);
+            maxCol[i] = toCol(item.getPosition().x + item.getWidth());
+            maxRow[i] = toRow(item.getPosition().y + item.getHeight());
+            insert(i);
+        }
+    }
+
+    /** index번 객체가 움직였을 때 호출. 걸치는 칸이 바뀐 경우에만 다시 등록한다. */
+    public void update(int index) {
+        T item = items.get(index);
+        int c0 = toCol(item.getPosition().x);
+        int r0 = toRow(item.getPosition().y);
+        int c1 = toCol(item.getPosition().x + item.getWidth());
+        int r1 = toRow(item.getPosition().y + item.getHeight());
+
+        if (c0 == minCol[index] && r0 == minRow[index] && c1 == maxCol[index] && r1 == maxRow[index]) {
+            return;
+        }
+
+        remove(index);
+        minCol[index] = c0;
+        minRow[index] = r0;
+        maxCol[index] = c1;
+        maxRow[index] = r1;
+        insert(index);
+    }
+
+    /**
+     * 주어진 영역과 같은 칸에 있는 객체를 out에 담는다 (out은 먼저 비운다).
+     * 결과는 원래 리스트 순서대로 정렬되며, 실제 겹침 여부는 호출 측에서 확인해야 한다.
+     *
+     * @return 담은 객체 수
+     */
+    public int query(double x, double y, double w, double h, List<T> out) {
+        out.clear();
+        if (items == null || items.isEmpty()) {
+            return 0;
+        }
+
+        int c0 = toCol(x);
+        int r0 = toRow(y);
+        int c1 = toCol(x + w);
+        int r1 = toRow(y + h);
+
+        if (++currentStamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            currentStamp = 1;
+        }
+
+        int found = 0;
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                int[] list = cells[cell];
+                int count = cellCounts[cell];
+                for (int k = 0; k < count; k++) {
+                    int index = list[k];
+                    if (stamps[index] != currentStamp) {
+                        stamps[index] = currentStamp;
+                        queryBuffer[found++] = index;
+                    }
+                }
+            }
+        }
+
+        // 원래 리스트 순서를 유지하기 위해 삽입 정렬 (결과는 보통 몇 개뿐이다)
+        for (int i = 1; i < found; i++) {
+            int v = queryBuffer[i];
+            int j = i - 1;
+            while (j >= 0 && queryBuffer[j] > v) {
+                queryBuffer[j + 1] = queryBuffer[j];
+                j--;
+            }
+            queryBuffer[j + 1] = v;
+        }
+
+        for (int i = 0; i < found; i++) {
+            out.add(items.get(queryBuffer[i]));
+        }
+        return found;
+    }
+
+    private void insert(int index) {
+        for (int r = minRow[index]; r <= maxRow[index]; r++) {
+            for (int c = minCol[index]; c <= maxCol[index]; c++) {
+                int cell = r * cols + c;
+                if (cellCounts[cell] == cells[cell].length) {
+                    cells[cell] = Arrays.copyOf(cells[cell], cells[cell].length * 2);
+                }
+                cells[cell][cellCounts[cell]++] = index;
+            }
+        }
+    }
+
+    private void remove(int index) {
+        for (int r = minRow[index]; r <= maxRow[index]; r++) {
+            for (int c = minCol[index]; c <= maxCol[index]; c++) {
+                int cell = r * cols + c;
+                int[] list = cells[cell];
+                int count = cellCounts[cell];
+                for (int k = 0; k < count; k++) {
+                    if (list[k] == index) {
+                        list[k] = list[count - 1];
+                        cellCounts[cell]--;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    // 영역 밖 좌표는 가장자리 칸으로 모은다
+    private int toCol(double x) {
+        int c = (int) Math.floor(x / cellWidth);
+        return c < 0 ? 0 : (c >= cols ? cols - 1 : c);
+    }
+
+    private int toRow(double y) {
+        int r = (int) Math.floor(y / cellHeight);
+        return r < 0 ? 0 : (r >= rows ? rows - 1 : r);
+    }
+}
@@ -1,6 +1,6 @@
 package breakout.engine;
 
 
-interface Updatable {
+public interface Updatable {
 	void update();
 }
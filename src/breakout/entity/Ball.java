@@ -5,24 +5,43 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Rectangle;
-import java.awt.Shape;
-import java.awt.geom.Ellipse2D;
-import java.util.ArrayList;
-import java.util.List;
 import breakout.engine.Vector2D;
 
 public class Ball extends GameObject {
 
     private Vector2D velocity;
     private final double SPEED = 5.0;
+    // 원형으로 잘라 둔 스킨 스프라이트 (BallSkinCache가 공유)
     private Image skin;
 
-    private List<Vector2D> trailHistory = new ArrayList<>();
-    private int maxTrailSize = 10;
+    private static final int MAX_TRAIL_SIZE = 10;
+    private static final Color SKIN_OUTLINE = new Color(0, 0, 0, 50);
+
+    // 잔상 인덱스(오래된 순)별 투명도. 매 프레임 AlphaComposite를 만들지 않도록 미리 만들어 둔다.
+    private static final AlphaComposite[] TRAIL_COMPOSITES = new AlphaComposite[MAX_TRAIL_SIZE];
+
+    static {
+        for (int i = 0; i < MAX_TRAIL_SIZE; i++) {
+            float alpha = (float) (i + 1) / MAX_TRAIL_SIZE;
+            TRAIL_COMPOSITES[i] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * 0.6f);
+        }
+    }
+
+    // 잔상 위치 링 버퍼 (trailStart가 가장 오래된 위치)
+    private final double[] trailX = new double[MAX_TRAIL_SIZE];
+    private final double[] trailY = new double[MAX_TRAIL_SIZE];
+    private int trailStart = 0;
+    private int trailCount = 0;
+    // 잔상 인덱스별 크기 (공 크기 기준으로 미리 계산)
+    private final int[] trailSizes = new int[MAX_TRAIL_SIZE];
 
     public Ball(double x, double y) {
         super(x, y, 30, 30);
         velocity = new Vector2D(3, -SPEED);
+
+        for (int i = 0; i < MAX_TRAIL_SIZE; i++) {
+            trailSizes[i] = Math.max(5, (int) width - (MAX_TRAIL_SIZE - i));
+        }
     }
 
     public Vector2D getVelocity() {
@@ -34,43 +53,52 @@ public class Ball extends GameObject {
     }
 
     public void setSkin(Image skin) {
-        this.skin = skin;
+        this.skin = skin != null ? BallSkinCache.get(skin, (int) width) : null;
     }
 
     @Override
     public void update() {
         position.x += velocity.x;
         position.y += velocity.y;
+        recordTrail();
+    }
 
-        trailHistory.add(new Vector2D(position.x, position.y));
-
-        if (trailHistory.size() > maxTrailSize) {
-            trailHistory.remove(0);
+    // 현재 위치를 잔상 기록에 추가 (이동은 CollisionDetector.sweepBall이 맡을 때 따로 호출)
+    public void recordTrail() {
+        int slot;
+        if (trailCount < MAX_TRAIL_SIZE) {
+            slot = (trailStart + trailCount) % MAX_TRAIL_SIZE;
+            trailCount++;
+        } else {
+            // 가득 차면 가장 오래된 위치를 덮어쓴다
+            slot = trailStart;
+            trailStart = (trailStart + 1) % MAX_TRAIL_SIZE;
         }
+        trailX[slot] = position.x;
+        trailY[slot] = position.y;
     }
 
     @Override
     public void draw(Graphics2D g) {
-        java.awt.Composite originalComposite = g.getComposite();
-
-        // 1. 잔상 그리기
-        for (int i = 0; i < trailHistory.size(); i++) {
-            Vector2D pos = trailHistory.get(i);
-            float alpha = (float) (i + 1) / maxTrailSize;
+        drawAt(g, position.x, position.y);
+    }
 
-            if (alpha > 1.0f) {
-                alpha = 1.0f;
-            }
+    @Override
+    public void draw(Graphics2D g, double alpha) {
+        drawAt(g, getRenderX(alpha), getRenderY(alpha));
+    }
 
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * 0.6f));
-            int trailSize = (int) width - (maxTrailSize - i);
+    private void drawAt(Graphics2D g, double x, double y) {
+        java.awt.Composite originalComposite = g.getComposite();
 
-            if (trailSize < 5) {
-                trailSize = 5;
-            }
+        // 1. 잔상 그리기
+        for (int i = 0; i < trailCount; i++) {
+            int slot = (trailStart + i) % MAX_TRAIL_SIZE;
+            g.setComposite(TRAIL_COMPOSITES[i]);
+            int trailSize = trailSizes[i];
 
-            double drawX = pos.x + (width - trailSize) / 2;
-            double drawY = pos.y + (height - trailSize) / 2;
+            double drawX = trailX[slot] + (width - trailSize) / 2;
+            double drawY = trailY[slot] + (height - trailSize) / 2;
             g.fillOval((int) drawX, (int) drawY, trailSize, trailSize);
         }
 
@@ -78,17 +106,12 @@ public class Ball extends GameObject {
 
         // 2. 공 본체 그리기
         if (skin != null) {
-            Shape originalClip = g.getClip();
-            Ellipse2D circleClip = new Ellipse2D.Double(position.x, position.y, width, height);
-
-            g.setClip(circleClip);
-            g.drawImage(skin, (int) position.x, (int) position.y, (int) width, (int) height, null);
-            g.setClip(originalClip);
+            g.drawImage(skin, (int) x, (int) y, null);
 
-            g.setColor(new Color(0, 0, 0, 50));
-            g.drawOval((int) position.x, (int) position.y, (int) width, (int) height);
+            g.setColor(SKIN_OUTLINE);
+            g.drawOval((int) x, (int) y, (int) width, (int) height);
         } else {
-            g.fillOval((int) position.x, (int) position.y, (int) width, (int) height);
+            g.fillOval((int) x, (int) y, (int) width, (int) height);
         }
     }
 
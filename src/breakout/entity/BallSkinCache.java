@@ -0,0 +1,62 @@
+package breakout.entity;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * 공 스킨 스프라이트 캐시.
+ * 스킨 원본 이미지를 공 크기로 줄이고 원형 알파 마스크를 씌운 스프라이트를 한 번만 만든다.
+ * 같은 스킨을 쓰는 공들은 스프라이트 하나를 함께 쓴다.
+ */
+public final class BallSkinCache {
+
+    private static final Map<Image, BufferedImage> sprites = new IdentityHashMap<>();
+
+    private BallSkinCache() {
+
+    }
+
+    /**
+     * @param skin 원본 스킨 이미지
+     * @param size 공 지름 (px)
+     */
+    public static synchronized BufferedImage get(Image skin, int size) {
+        BufferedImage sprite = sprites.get(skin);
+        if (sprite == null || sprite.getWidth() != size) {
+            sprite = render(skin, size);
+            sprites.put(skin, sprite);
+        }
+        return sprite;
+    }
+
+    public static synchronized void clear() {
+        sprites.clear();
+    }
+
+    private static BufferedImage render(Image skin, int size) {
+        BufferedImage sprite = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = sprite.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(skin, 0, 0, size, size, null);
+
+            // 원 밖은 투명하게 (가장자리는 안티앨리어싱)
+            BufferedImage mask = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D mg = mask.createGraphics();
+            mg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            mg.fillOval(0, 0, size, size);
+            mg.dispose();
+
+            g.setComposite(AlphaComposite.DstIn);
+            g.drawImage(mask, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return sprite;
+    }
+}
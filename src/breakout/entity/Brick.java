@@ -4,6 +4,7 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Graphics2D;
+import java.util.function.Consumer;
 
 public abstract class Brick extends GameObject {
     
@@ -12,6 +13,9 @@ public abstract class Brick extends GameObject {
     public Color color;
     public boolean isDestroyed = false;
 
+    // 파괴되는 순간 한 번 호출 (MapGenerator가 남은 벽돌 수를 세는 데 사용)
+    private Consumer<Brick> destroyListener;
+
     public Brick(double x, double y, double width, double height, int hp, Color color) {
         super(x, y, width, height);
         this.hp = hp;
@@ -21,42 +25,66 @@ public abstract class Brick extends GameObject {
 
     public void hit() {
         hp--;
-        if (hp <= 0) {
+        if (hp <= 0 && !isDestroyed) {
             isDestroyed = true;
+            if (destroyListener != null) {
+                destroyListener.accept(this);
+            }
         }
     }
 
+    public void setDestroyListener(Consumer<Brick> listener) {
+        this.destroyListener = listener;
+    }
+
+    public BrickType getType() {
+        return BrickType.NORMAL;
+    }
+
     @Override
     public void update() { }
 
     @Override
     public void draw(Graphics2D g) {
         if (!isDestroyed) {
-            int x = (int)position.x;
-            int y = (int)position.y;
-            int w = (int)width;
-            int h = (int)height;
-            
-            // 1. 기본 그라데이션 채우기 (위에서 아래로 어두워짐 -> 둥근 입체감)
-            GradientPaint gp = new GradientPaint(x, y, color.brighter(), x, y + h, color.darker());
-            g.setPaint(gp);
-            g.fillRect(x, y, w, h);
-            
-            // 2. 3D 하이라이트 효과 (왼쪽/위쪽은 밝게, 오른쪽/아래쪽은 어둡게)
-            // 밝은 테두리 (빛 받는 부분)
-            g.setColor(new Color(255, 255, 255, 100)); // 반투명 흰색
-            g.fillRect(x, y, w, 4); // 윗면
-            g.fillRect(x, y, 4, h); // 왼쪽면
-            
-            // 어두운 그림자 (그림자 지는 부분)
-            g.setColor(new Color(0, 0, 0, 80)); // 반투명 검은색
-            g.fillRect(x + w - 4, y, 4, h); // 오른쪽면
-            g.fillRect(x, y + h - 4, w, 4); // 아랫면
-            
-            // 3. 외곽선 (깔끔하게 마무리)
-            g.setColor(Color.BLACK);
-            g.setStroke(new BasicStroke(1)); // 얇은 선
-            g.drawRect(x, y, w, h);
+            drawSprite(g, (int)position.x, (int)position.y);
         }
     }
+
+    // 캐시된 스프라이트를 지정한 좌표에 복사
+    protected void drawSprite(Graphics2D g, int x, int y) {
+        g.drawImage(BrickSpriteCache.get(this, g.getDeviceConfiguration()), x, y, null);
+    }
+
+    // 스프라이트 캐시에 (0, 0) 기준으로 한 번 그려둘 모양
+    protected void paintSprite(Graphics2D g) {
+        drawBrick(g, 0, 0);
+    }
+
+    // 지정한 좌표에 벽돌 본체를 그린다 (보간 렌더링 시 위치만 바꿔서 재사용)
+    protected void drawBrick(Graphics2D g, int x, int y) {
+        int w = (int)width;
+        int h = (int)height;
+        
+        // 1. 기본 그라데이션 채우기 (위에서 아래로 어두워짐 -> 둥근 입체감)
+        GradientPaint gp = new GradientPaint(x, y, color.brighter(), x, y + h, color.darker());
+        g.setPaint(gp);
+        g.fillRect(x, y, w, h);
+        
+        // 2. 3D 하이라이트 효과 (왼쪽/위쪽은 밝게, 오른쪽/아래쪽은 어둡게)
+        // 밝은 테두리 (빛 받는 부분)
+        g.setColor(new Color(255, 255, 255, 100)); // 반투명 흰색
+        g.fillRect(x, y, w, 4); // 윗면
+        g.fillRect(x, y, 4, h); // 왼쪽면
+        
+        // 어두운 그림자 (그림자 지는 부분)
+        g.setColor(new Color(0, 0, 0, 80)); // 반투명 검은색
+        g.fillRect(x + w - 4, y, 4, h); // 오른쪽면
+        g.fillRect(x, y + h - 4, w, 4); // 아랫면
+        
+        // 3. 외곽선 (깔끔하게 마무리)
+        g.setColor(Color.BLACK);
+        g.setStroke(new BasicStroke(1)); // 얇은 선
+        g.drawRect(x, y, w, h);
+    }
 }
\ No newline at end of file
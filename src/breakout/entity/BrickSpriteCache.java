@@ -0,0 +1,116 @@
+package breakout.entity;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * 벽돌 스프라이트 캐시.
+ * (벽돌 종류, 색상, 크기, 체력) 조합마다 한 번만 그려두고 이후에는 이미지 복사로 그린다.
+ * 호환 이미지는 화면 설정마다 따로 만들어야 하므로 GraphicsConfiguration별로 캐시를 나눠 둔다
+ * (벽돌 레이어와 화면 백버퍼처럼 설정이 다른 곳에 번갈아 그려도 서로 지우지 않는다).
+ * 색상 팔레트가 바뀌면 clear()로 비운다.
+ */
+public final class BrickSpriteCache {
+
+    // 스프라이트 오른쪽/아래 여백 (외곽선 1px + 움직이는 벽돌 그림자 5px)
+    public static final int SPRITE_PADDING = 6;
+
+    private static final Map<GraphicsConfiguration, Map<SpriteKey, BufferedImage>> spritesByConfig = new IdentityHashMap<>();
+    // 조회용 키를 재사용해서 매 프레임 키 객체를 만들지 않는다
+    private static final SpriteKey probe = new SpriteKey();
+
+    private BrickSpriteCache() {
+
+    }
+
+    public static synchronized BufferedImage get(Brick brick, GraphicsConfiguration gc) {
+        Map<SpriteKey, BufferedImage> sprites = spritesByConfig.get(gc);
+        if (sprites == null) {
+            sprites = new HashMap<>();
+            spritesByConfig.put(gc, sprites);
+        }
+
+        probe.set(brick);
+        BufferedImage sprite = sprites.get(probe);
+        if (sprite == null) {
+            sprite = render(brick, gc);
+            SpriteKey key = new SpriteKey();
+            key.set(brick);
+            sprites.put(key, sprite);
+        }
+        return sprite;
+    }
+
+    public static synchronized void clear() {
+        spritesByConfig.clear();
+    }
+
+    public static synchronized int size() {
+        int n = 0;
+        for (Map<SpriteKey, BufferedImage> sprites : spritesByConfig.values()) {
+            n += sprites.size();
+        }
+        return n;
+    }
+
+    private static BufferedImage render(Brick brick, GraphicsConfiguration gc) {
+        int w = (int) brick.getWidth() + SPRITE_PADDING;
+        int h = (int) brick.getHeight() + SPRITE_PADDING;
+        BufferedImage sprite;
+        if (gc != null) {
+            sprite = gc.createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+        } else {
+            sprite = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        }
+
+        Graphics2D g = sprite.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            brick.paintSprite(g);
+        } finally {
+            g.dispose();
+        }
+        return sprite;
+    }
+
+    private static final class SpriteKey {
+        private Class<?> type;
+        private int rgb;
+        private int width;
+        private int height;
+        private int hp;
+
+        void set(Brick brick) {
+            type = brick.getClass();
+            rgb = brick.color.getRGB();
+            width = (int) brick.getWidth();
+            height = (int) brick.getHeight();
+            hp = brick.hp;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof SpriteKey)) {
+                return false;
+            }
+            SpriteKey k = (SpriteKey) o;
+            return type == k.type && rgb == k.rgb && width == k.width && height == k.height && hp == k.hp;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = type.hashCode();
+            h = h * 31 + rgb;
+            h = h * 31 + width;
+            h = h * 31 + height;
+            h = h * 31 + hp;
+            return h;
+        }
+    }
+}
@@ -5,6 +5,8 @@ package breakout.entity;
  */
 public enum BrickType {
     NORMAL,
+    MEDIUM,
     HARD,
-    EXPLOSIVE
+    EXPLOSIVE,
+    MOVING
 }
\ No newline at end of file
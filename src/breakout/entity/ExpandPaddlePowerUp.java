@@ -1,6 +1,6 @@
 package breakout.entity;
 
-import breakout.view.GamePanel;
+import breakout.engine.GameSimulation;
 
 public class ExpandPaddlePowerUp extends PowerUp {
     public ExpandPaddlePowerUp(double x, double y) {
@@ -8,7 +8,7 @@ public class ExpandPaddlePowerUp extends PowerUp {
     }
     
     @Override
-    public void applyEffect(GamePanel game) {
+    public void applyEffect(GameSimulation game) {
         game.expandPaddle(); // 패들 늘리기
     }
 }
\ No newline at end of file
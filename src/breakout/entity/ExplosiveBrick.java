@@ -9,6 +9,11 @@ public class ExplosiveBrick extends Brick {
         super(x, y, width, height, 1, Color.RED);
     }
 
+    @Override
+    public BrickType getType() {
+        return BrickType.EXPLOSIVE;
+    }
+
     // 폭발 벽돌은 충돌 시 별도의 로직(소리 재생 등)이 필요하면 여기에 작성
     @Override
     public void onCollision(Collidable other) {
@@ -1,6 +1,6 @@
 package breakout.entity;
 
-import breakout.view.GamePanel;
+import breakout.engine.GameSimulation;
 
 public class ExtraLifePowerUp extends PowerUp {
     public ExtraLifePowerUp(double x, double y) {
@@ -8,7 +8,7 @@ public class ExtraLifePowerUp extends PowerUp {
     }
     
     @Override
-    public void applyEffect(GamePanel game) {
+    public void applyEffect(GameSimulation game) {
         game.addLife(); // 생명 추가
     }
 }
\ No newline at end of file
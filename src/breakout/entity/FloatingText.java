@@ -5,6 +5,8 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 
+import breakout.view.FontCache;
+
 public class FloatingText extends GameObject {
 
     private String text;
@@ -31,7 +33,7 @@ public class FloatingText extends GameObject {
         if (alpha > 0) {
             g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
             
-            g.setFont(new Font("Consolas", Font.BOLD, 20));
+            g.setFont(FontCache.get("Consolas", Font.BOLD, 20));
             g.setColor(Color.BLACK);
             g.drawString(text, (int)position.x + 1, (int)position.y + 1);
             
@@ -8,20 +8,63 @@ public abstract class GameObject implements Collidable {
     protected Vector2D position;
     protected double width, height;
 
+    // 직전 물리 스텝의 위치 (렌더 보간용)
+    protected double prevX, prevY;
+
     public GameObject(double x, double y, double width, double height) {
         this.position = new Vector2D(x, y);
         this.width = width;
         this.height = height;
+        this.prevX = x;
+        this.prevY = y;
     }
 
     public abstract void update();
     public abstract void draw(Graphics2D g);
 
+    // 보간 비율(0~1)을 받아 그리기. 움직이지 않는 객체는 현재 위치 그대로 그린다.
+    public void draw(Graphics2D g, double alpha) {
+        draw(g);
+    }
+
+    // 물리 스텝 직전에 호출해서 현재 위치를 보간 기준점으로 저장
+    public void savePreviousPosition() {
+        prevX = position.x;
+        prevY = position.y;
+    }
+
+    public double getRenderX(double alpha) {
+        return prevX + (position.x - prevX) * alpha;
+    }
+
+    public double getRenderY(double alpha) {
+        return prevY + (position.y - prevY) * alpha;
+    }
+
     @Override
     public Rectangle getBounds() {
         return new Rectangle((int)position.x, (int)position.y, (int)width, (int)height);
     }
     
+    // Rectangle을 만들지 않는 바운딩 박스 접근자 (충돌 검사 핫패스용)
+    public double getMinX() { return position.x; }
+    public double getMinY() { return position.y; }
+    public double getMaxX() { return position.x + width; }
+    public double getMaxY() { return position.y + height; }
+    public double getCenterX() { return position.x + width / 2.0; }
+    public double getCenterY() { return position.y + height / 2.0; }
+
+    // 두 바운딩 박스가 겹치는지 (경계가 맞닿기만 한 경우는 제외, Rectangle.intersects와 같은 규칙)
+    public boolean intersects(GameObject other) {
+        return position.x < other.position.x + other.width && other.position.x < position.x + width
+                && position.y < other.position.y + other.height && other.position.y < position.y + height;
+    }
+
+    public boolean intersects(double x, double y, double w, double h) {
+        return position.x < x + w && x < position.x + width
+                && position.y < y + h && y < position.y + height;
+    }
+    
     // ★ 이 Getter들이 꼭 있어야 합니다!
     public Vector2D getPosition() { return position; }
     public double getWidth() { return width; }
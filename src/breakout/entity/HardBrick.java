@@ -21,6 +21,11 @@ public class HardBrick extends Brick {
         }
     }
 
+    @Override
+    public BrickType getType() {
+        return BrickType.HARD;
+    }
+
     @Override
     public void onCollision(Collidable other) {
         // 필요하다면 단단한 벽돌에 부딪혔을 때 깡! 하는 금속 소리 등을 재생할 수 있음
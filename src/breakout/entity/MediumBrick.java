@@ -19,6 +19,11 @@ public class MediumBrick extends Brick {
         }
     }
     
+    @Override
+    public BrickType getType() {
+        return BrickType.MEDIUM;
+    }
+
     @Override
     public void onCollision(Collidable other) {
         // 필요 시 충돌 효과음 등 추가
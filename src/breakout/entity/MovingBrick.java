@@ -38,22 +38,41 @@ public class MovingBrick extends Brick {
     @Override
     public void draw(Graphics2D g) {
         if (isDestroyed) return;
-        
+        drawAt(g, (int)position.x, (int)position.y);
+    }
+
+    @Override
+    public void draw(Graphics2D g, double alpha) {
+        if (isDestroyed) return;
+        drawAt(g, (int)getRenderX(alpha), (int)getRenderY(alpha));
+    }
+
+    private void drawAt(Graphics2D g, int x, int y) {
+        drawSprite(g, x, y);
+    }
+
+    @Override
+    protected void paintSprite(Graphics2D g) {
         // 그림자
         g.setColor(new Color(0, 0, 0, 50));
-        g.fillRect((int)position.x + 5, (int)position.y + 5, (int)width, (int)height);
+        g.fillRect(5, 5, (int)width, (int)height);
         
         // 부모(Brick)의 그리기 메소드 호출
-        super.draw(g);
+        drawBrick(g, 0, 0);
         
         // 데코레이션 (화살표 느낌)
         g.setColor(new Color(255, 255, 255, 150));
-        int midY = (int)position.y + (int)height / 2;
-        g.drawLine((int)position.x + 10, midY, (int)position.x + (int)width - 10, midY);
-        g.fillRect((int)position.x + (int)width / 2 - 2, midY - 2, 4, 4);
+        int midY = (int)height / 2;
+        g.drawLine(10, midY, (int)width - 10, midY);
+        g.fillRect((int)width / 2 - 2, midY - 2, 4, 4);
     }
 
     
+    @Override
+    public BrickType getType() {
+        return BrickType.MOVING;
+    }
+
     @Override
     public void onCollision(Collidable other) {
         
@@ -72,8 +72,15 @@ public class Paddle extends GameObject {
 
     @Override
     public void draw(Graphics2D g) {
-        int x = (int)position.x;
-        int y = (int)position.y;
+        drawAt(g, (int)position.x, (int)position.y);
+    }
+
+    @Override
+    public void draw(Graphics2D g, double alpha) {
+        drawAt(g, (int)getRenderX(alpha), (int)getRenderY(alpha));
+    }
+
+    private void drawAt(Graphics2D g, int x, int y) {
         int w = (int)width;
         int h = (int)height;
         
@@ -2,7 +2,7 @@ package breakout.entity;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
-import breakout.view.GamePanel;
+import breakout.engine.GameSimulation;
 
 public abstract class PowerUp extends GameObject {
     
@@ -20,7 +20,7 @@ public abstract class PowerUp extends GameObject {
     }
 
     // 아이템 효과 적용 (추상 메소드)
-    public abstract void applyEffect(GamePanel game);
+    public abstract void applyEffect(GameSimulation game);
 
     @Override
     public void draw(Graphics2D g) {
@@ -0,0 +1,115 @@
+package breakout.manager;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+
+/**
+ * 이미지/폰트를 작업 스레드에서 병렬로 불러온다.
+ * 결과는 CompletableFuture로 돌려주므로, 화면은 먼저 띄우고 필요한 곳에서 완료 여부만 확인하면 된다.
+ * 이미지는 디코딩 직후 화면과 같은 형식의 이미지로 바꿔 둔다.
+ */
+public class AssetLoader {
+
+    /** 파일별 로드 시간을 출력할지 (-Dbreakout.debugLoad=true). 평소에는 MainFrame이 전체 시간만 출력한다. */
+    public static final boolean LOG_LOAD_TIMES = Boolean.parseBoolean(System.getProperty("breakout.debugLoad", "false"));
+
+    private final ExecutorService executor;
+
+    public AssetLoader() {
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "AssetLoader-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 이미지를 읽어서 화면 호환 형식으로 바꾼다.
+     * 파일이 없으면 null로 완료된다.
+     */
+    public CompletableFuture<BufferedImage> loadImage(String path) {
+        return CompletableFuture.supplyAsync(() -> {
+            File file = new File(path);
+            if (!file.exists()) {
+                return null;
+            }
+            try {
+                long start = System.nanoTime();
+                BufferedImage image = toCompatibleImage(ImageIO.read(file));
+                if (LOG_LOAD_TIMES) {
+                    System.out.printf("[AssetLoader] %s loaded in %.1f ms%n", path, (System.nanoTime() - start) / 1_000_000.0);
+                }
+                return image;
+            } catch (IOException e) {
+                logFailure(path, e);
+                return null;
+            }
+        }, executor);
+    }
+
+    /**
+     * 트루타입 폰트를 읽어서 시스템에 등록한다.
+     * 파일이 없거나 읽지 못하면 null로 완료된다.
+     */
+    public CompletableFuture<Font> loadFont(String path) {
+        return CompletableFuture.supplyAsync(() -> {
+            File file = new File(path);
+            if (!file.exists()) {
+                return null;
+            }
+            try {
+                Font font = Font.createFont(Font.TRUETYPE_FONT, file);
+                GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(font);
+                return font;
+            } catch (Exception e) {
+                logFailure(path, e);
+                return null;
+            }
+        }, executor);
+    }
+
+    // 실패한 파일은 한 줄로 알리고 null로 완료한다 (이미지/폰트 공통)
+    private static void logFailure(String path, Exception e) {
+        System.err.println("[AssetLoader] load failed: " + path + " (" + e + ")");
+    }
+
+    /** 이미 맡긴 작업은 끝까지 진행하고 스레드를 정리한다. */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 현재 화면 설정과 같은 픽셀 형식의 이미지로 복사한다 (그릴 때 형식 변환이 없도록).
+     * 헤드리스 환경이면 그대로 돌려준다.
+     */
+    public static BufferedImage toCompatibleImage(BufferedImage source) {
+        if (source == null || GraphicsEnvironment.isHeadless()) {
+            return source;
+        }
+        GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+        if (source.getColorModel().equals(gc.getColorModel(source.getTransparency()))) {
+            return source;
+        }
+
+        int transparency = source.getColorModel().hasAlpha() ? Transparency.TRANSLUCENT : Transparency.OPAQUE;
+        BufferedImage image = gc.createCompatibleImage(source.getWidth(), source.getHeight(), transparency);
+        Graphics2D g = image.createGraphics();
+        g.drawImage(source, 0, 0, null);
+        g.dispose();
+        return image;
+    }
+}
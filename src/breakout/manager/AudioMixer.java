@@ -0,0 +1,295 @@
+package breakout.manager;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * 효과음 소프트웨어 믹서.
+ * wav 파일을 미리 한 가지 PCM 형식(44.1kHz, 16bit, 스테레오)으로 디코딩해 두고,
+ * 재생 중인 보이스들을 전용 오디오 스레드에서 섞어 SourceDataLine 하나로 내보낸다.
+ * 게임 스레드는 명령 큐에 넣기만 하므로 장치 때문에 멈추지 않는다.
+ * 소리마다 동시 보이스 수 상한이 있어서, 상한에 닿으면 같은 소리 중 가장 오래된 보이스를 다시 쓴다
+ * (자주 나는 소리가 전체 보이스를 차지해서 폭발음 같은 드문 소리를 끊지 않도록).
+ */
+class AudioMixer {
+
+    static final float SAMPLE_RATE = 44100f;
+    private static final int CHANNELS = 2;
+    private static final int BYTES_PER_FRAME = CHANNELS * 2;
+    private static final AudioFormat OUTPUT_FORMAT =
+            new AudioFormat(SAMPLE_RATE, 16, CHANNELS, true, false);
+
+    // 한 번에 섞는 프레임 수 (약 5.8ms) / 라인 버퍼는 그 4배 (약 23ms)
+    private static final int MIX_FRAMES = 256;
+    private static final int LINE_BUFFER_FRAMES = MIX_FRAMES * 4;
+
+    private static final int MAX_VOICES = 32;
+
+    // 미리 디코딩한 소리와 그 소리의 동시 보이스 수 상한
+    private static final class Sound {
+        final short[] data;
+        final int maxVoices;
+
+        Sound(short[] data, int maxVoices) {
+            this.data = data;
+            this.maxVoices = maxVoices;
+        }
+    }
+
+    // 게임 스레드 -> 오디오 스레드 명령
+    private static final class Command {
+        final Sound sample;   // null이면 전체 정지
+        final float gain;
+
+        Command(Sound sample, float gain) {
+            this.sample = sample;
+            this.gain = gain;
+        }
+    }
+
+    private static final Command STOP_ALL = new Command(null, 0f);
+
+    private final Map<String, Sound> samples = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Command> commands = new ConcurrentLinkedQueue<>();
+
+    // 보이스 상태 (오디오 스레드만 만진다)
+    private final short[][] voiceData = new short[MAX_VOICES][];
+    private final Sound[] voiceSound = new Sound[MAX_VOICES];
+    private final int[] voicePos = new int[MAX_VOICES];
+    private final float[] voiceGain = new float[MAX_VOICES];
+    private final long[] voiceStart = new long[MAX_VOICES];
+    private long voiceSerial = 0;
+
+    private final int[] mixBuffer = new int[MIX_FRAMES * CHANNELS];
+    private final byte[] outBuffer = new byte[MIX_FRAMES * BYTES_PER_FRAME];
+
+    private final SourceDataLine line;
+    private Thread thread;
+    private volatile boolean running = false;
+
+    private AudioMixer(SourceDataLine line) {
+        this.line = line;
+    }
+
+    /**
+     * 출력 라인을 열고 믹서 스레드를 시작한다.
+     *
+     * @return 라인을 열 수 없으면 null (Clip 재생으로 대체)
+     */
+    static AudioMixer open() {
+        try {
+            SourceDataLine line = AudioSystem.getSourceDataLine(OUTPUT_FORMAT);
+            line.open(OUTPUT_FORMAT, LINE_BUFFER_FRAMES * BYTES_PER_FRAME);
+            line.start();
+
+            AudioMixer mixer = new AudioMixer(line);
+            mixer.start();
+            return mixer;
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private void start() {
+        running = true;
+        thread = new Thread(this::run, "AudioMixer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    void close() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        line.stop();
+        line.close();
+    }
+
+    /**
+     * 파일을 출력 형식으로 디코딩해서 name으로 등록한다.
+     *
+     * @param maxVoices 이 소리가 동시에 낼 수 있는 보이스 수
+     */
+    void load(String name, File file, int maxVoices) throws UnsupportedAudioFileException, IOException {
+        samples.put(name, new Sound(decode(file), Math.max(1, Math.min(MAX_VOICES, maxVoices))));
+    }
+
+    boolean isLoaded(String name) {
+        return samples.containsKey(name);
+    }
+
+    /**
+     * 재생 요청을 큐에 넣는다 (블로킹 없음).
+     *
+     * @param gain 선형 볼륨 (0.0 ~ 1.0, 1.0 = 원음)
+     * @return 등록되지 않은 소리면 false
+     */
+    boolean play(String name, float gain) {
+        Sound sample = samples.get(name);
+        if (sample == null) {
+            return false;
+        }
+        commands.offer(new Command(sample, Math.max(0f, Math.min(1f, gain))));
+        return true;
+    }
+
+    void stopAll() {
+        commands.offer(STOP_ALL);
+    }
+
+    private void run() {
+        while (running) {
+            drainCommands();
+            mix();
+            // 라인 버퍼가 차 있으면 여기서 기다리므로 따로 sleep하지 않는다
+            line.write(outBuffer, 0, outBuffer.length);
+        }
+    }
+
+    private void drainCommands() {
+        Command cmd;
+        while ((cmd = commands.poll()) != null) {
+            if (cmd.sample == null) {
+                for (int v = 0; v < MAX_VOICES; v++) {
+                    voiceData[v] = null;
+                    voiceSound[v] = null;
+                }
+            } else {
+                int v = findVoice(cmd.sample);
+                voiceData[v] = cmd.sample.data;
+                voiceSound[v] = cmd.sample;
+                voicePos[v] = 0;
+                voiceGain[v] = cmd.gain;
+                voiceStart[v] = voiceSerial++;
+            }
+        }
+    }
+
+    // 같은 소리가 상한만큼 울리고 있으면 그중 가장 먼저 시작한 보이스,
+    // 아니면 빈 보이스, 그것도 없으면 전체에서 가장 먼저 시작한 보이스
+    private int findVoice(Sound sound) {
+        int same = 0;
+        int oldestSame = -1;
+        int free = -1;
+        int oldest = 0;
+        for (int v = 0; v < MAX_VOICES; v++) {
+            if (voiceData[v] == null) {
+                if (free < 0) {
+                    free = v;
+                }
+                continue;
+            }
+            if (voiceSound[v] == sound) {
+                same++;
+                if (oldestSame < 0 || voiceStart[v] < voiceStart[oldestSame]) {
+                    oldestSame = v;
+                }
+            }
+            if (voiceStart[v] < voiceStart[oldest]) {
+                oldest = v;
+            }
+        }
+        if (same >= sound.maxVoices) {
+            return oldestSame;
+        }
+        return free >= 0 ? free : oldest;
+    }
+
+    private void mix() {
+        Arrays.fill(mixBuffer, 0);
+
+        for (int v = 0; v < MAX_VOICES; v++) {
+            short[] data = voiceData[v];
+            if (data == null) {
+                continue;
+            }
+            int pos = voicePos[v];
+            int n = Math.min(mixBuffer.length, data.length - pos);
+            // 정수 연산으로 섞기 위해 볼륨을 16.16 고정소수점으로
+            int g = (int) (voiceGain[v] * 65536f);
+            for (int i = 0; i < n; i++) {
+                mixBuffer[i] += (data[pos + i] * g) >> 16;
+            }
+            pos += n;
+            if (pos >= data.length) {
+                voiceData[v] = null;
+                voiceSound[v] = null;
+            } else {
+                voicePos[v] = pos;
+            }
+        }
+
+        for (int i = 0, b = 0; i < mixBuffer.length; i++) {
+            int s = mixBuffer[i];
+            s = s > Short.MAX_VALUE ? Short.MAX_VALUE : (s < Short.MIN_VALUE ? Short.MIN_VALUE : s);
+            outBuffer[b++] = (byte) s;
+            outBuffer[b++] = (byte) (s >> 8);
+        }
+    }
+
+    /**
+     * wav를 읽어 44.1kHz 스테레오 16bit 인터리브 샘플로 바꾼다.
+     * 모노는 양쪽에 복사하고, 샘플레이트가 다르면 선형 보간으로 맞춘다.
+     */
+    static short[] decode(File file) throws UnsupportedAudioFileException, IOException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(file)) {
+            AudioFormat src = source.getFormat();
+            AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED,
+                    src.getSampleRate(), 16, src.getChannels(), src.getChannels() * 2, src.getSampleRate(), false);
+
+            AudioInputStream in = source;
+            if (!src.matches(pcm)) {
+                in = AudioSystem.getAudioInputStream(pcm, source);
+            }
+
+            byte[] bytes = in.readAllBytes();
+            int srcChannels = pcm.getChannels();
+            int srcFrames = bytes.length / (srcChannels * 2);
+
+            // 소스 프레임 -> 스테레오 short
+            short[] left = new short[srcFrames];
+            short[] right = new short[srcFrames];
+            for (int f = 0; f < srcFrames; f++) {
+                int o = f * srcChannels * 2;
+                short l = (short) ((bytes[o] & 0xFF) | (bytes[o + 1] << 8));
+                short r = l;
+                if (srcChannels > 1) {
+                    r = (short) ((bytes[o + 2] & 0xFF) | (bytes[o + 3] << 8));
+                }
+                left[f] = l;
+                right[f] = r;
+            }
+
+            double ratio = pcm.getSampleRate() / SAMPLE_RATE;
+            int outFrames = srcFrames == 0 ? 0 : (int) Math.floor((srcFrames - 1) / ratio) + 1;
+            short[] out = new short[outFrames * CHANNELS];
+
+            for (int f = 0; f < outFrames; f++) {
+                double p = f * ratio;
+                int i0 = (int) p;
+                int i1 = Math.min(i0 + 1, srcFrames - 1);
+                double t = p - i0;
+                out[f * 2] = (short) Math.round(left[i0] + (left[i1] - left[i0]) * t);
+                out[f * 2 + 1] = (short) Math.round(right[i0] + (right[i1] - right[i0]) * t);
+            }
+            return out;
+        }
+    }
+
+    /** 데시벨 값을 선형 볼륨으로. */
+    static float dbToGain(float db) {
+        return (float) Math.pow(10.0, db / 20.0);
+    }
+}
@@ -0,0 +1,113 @@
+package breakout.manager;
+
+import java.io.File;
+import java.io.IOException;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.Clip;
+import javax.sound.sampled.FloatControl;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * 효과음 하나에 대한 Clip 보이스 풀.
+ * 같은 소리를 미리 열어둔 여러 Clip으로 겹쳐 재생해서, 연속 타격음이 서로 끊기지 않게 한다.
+ * 동시 재생 수가 상한에 닿으면 가장 먼저 시작한 보이스를 멈추고 다시 쓴다.
+ */
+class ClipVoicePool {
+
+    private final Clip[] voices;
+    private final long[] startTimes;
+    private int cursor = 0;
+
+    private ClipVoicePool(Clip[] voices) {
+        this.voices = voices;
+        this.startTimes = new long[voices.length];
+    }
+
+    /**
+     * 파일을 한 번 읽어서 voiceCount개의 Clip을 열어둔다. 볼륨도 이때 한 번만 설정한다.
+     */
+    static ClipVoicePool open(File file, int voiceCount, float volume)
+            throws UnsupportedAudioFileException, IOException, LineUnavailableException {
+        byte[] data;
+        AudioFormat format;
+        try (AudioInputStream ais = AudioSystem.getAudioInputStream(file)) {
+            format = ais.getFormat();
+            data = ais.readAllBytes();
+        }
+
+        Clip[] clips = new Clip[voiceCount];
+        try {
+            for (int i = 0; i < voiceCount; i++) {
+                clips[i] = AudioSystem.getClip();
+                clips[i].open(format, data, 0, data.length);
+                setVolume(clips[i], volume);
+            }
+        } catch (LineUnavailableException e) {
+            // 일부만 열렸으면 열린 만큼만 쓴다
+            int opened = 0;
+            while (opened < voiceCount && clips[opened] != null && clips[opened].isOpen()) {
+                opened++;
+            }
+            if (opened == 0) {
+                throw e;
+            }
+            Clip[] partial = new Clip[opened];
+            System.arraycopy(clips, 0, partial, 0, opened);
+            clips = partial;
+        }
+        return new ClipVoicePool(clips);
+    }
+
+    /** 쉬고 있는 보이스로 재생하고, 모두 재생 중이면 가장 오래된 보이스를 뺏어서 재생한다. */
+    synchronized void play() {
+        int n = voices.length;
+        int chosen = -1;
+
+        // 라운드 로빈으로 쉬고 있는 보이스 찾기
+        for (int k = 0; k < n; k++) {
+            int i = (cursor + k) % n;
+            if (!voices[i].isRunning()) {
+                chosen = i;
+                break;
+            }
+        }
+
+        if (chosen < 0) {
+            chosen = 0;
+            for (int i = 1; i < n; i++) {
+                if (startTimes[i] < startTimes[chosen]) {
+                    chosen = i;
+                }
+            }
+            voices[chosen].stop();
+        }
+
+        Clip clip = voices[chosen];
+        clip.setFramePosition(0);
+        clip.start();
+        startTimes[chosen] = System.nanoTime();
+        cursor = (chosen + 1) % n;
+    }
+
+    synchronized void stop() {
+        for (Clip clip : voices) {
+            if (clip.isRunning()) {
+                clip.stop();
+            }
+        }
+    }
+
+    int getVoiceCount() {
+        return voices.length;
+    }
+
+    private static void setVolume(Clip clip, float volume) {
+        if (clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
+            FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
+            gainControl.setValue(volume);
+        }
+    }
+}
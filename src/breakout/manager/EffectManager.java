@@ -5,35 +5,58 @@ import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import breakout.entity.FloatingText;
-import breakout.entity.Particle;
 
 public class EffectManager {
 
-    private List<Particle> particles = new ArrayList<>();
+    // 기본 파티클 상한 (폭발 한 번에 20개 기준 약 100번 분량)
+    public static final int DEFAULT_MAX_PARTICLES = 2048;
+    private static final int PARTICLES_PER_EXPLOSION = 20;
+
+    private final ParticlePool particles;
     private List<FloatingText> texts = new ArrayList<>();
 
+    public EffectManager() {
+        this(DEFAULT_MAX_PARTICLES);
+    }
+
+    public EffectManager(int maxParticles) {
+        particles = new ParticlePool(maxParticles);
+    }
+
     public void createExplosion(double x, double y, Color color) {
-        for (int i = 0; i < 20; i++) {
-            particles.add(new Particle(x, y, color));
-        }
+        particles.spawn(x, y, color, PARTICLES_PER_EXPLOSION);
     }
 
     public void addFloatingText(double x, double y, String msg, Color color) {
         texts.add(new FloatingText(x, y, msg, color));
     }
 
+    public void setRandom(SplittableRandom random) {
+        particles.setRandom(random);
+    }
+
+    public void setMaxParticles(int maxParticles) {
+        particles.setCapacity(maxParticles);
+    }
+
+    public int getMaxParticles() {
+        return particles.getCapacity();
+    }
+
+    public int getParticleCount() {
+        return particles.getCount();
+    }
+
+    public void clear() {
+        particles.clear();
+        texts.clear();
+    }
+
     public void update() {
-        Iterator<Particle> pIt = particles.iterator();
-        while (pIt.hasNext()) {
-            Particle p = pIt.next();
-            p.update();
-            
-            if (p.isDead()) {
-                pIt.remove();
-            }
-        }
+        particles.update();
 
         Iterator<FloatingText> tIt = texts.iterator();
         while (tIt.hasNext()) {
@@ -47,12 +70,10 @@ public class EffectManager {
     }
 
     public void draw(Graphics2D g) {
-        for (Particle p : particles) {
-            p.draw(g);
-        }
+        particles.draw(g);
 
         for (FloatingText t : texts) {
             t.draw(g);
         }
     }
-}
\ No newline at end of file
+}
@@ -18,6 +18,7 @@ import breakout.entity.ExplosiveBrick;
 import breakout.entity.HardBrick;
 import breakout.entity.MediumBrick;
 import breakout.entity.NormalBrick;
+import breakout.view.FontCache;
 import breakout.view.GameButton;
 
 public class LevelEditor {
@@ -183,9 +184,9 @@ public class LevelEditor {
 
                     g.setColor(Color.BLACK);
                     if (customFont != null) {
-                        g.setFont(customFont.deriveFont(12f));
+                        g.setFont(FontCache.derive(customFont, 12f));
                     } else {
-                        g.setFont(new Font("SansSerif", Font.BOLD, 12));
+                        g.setFont(FontCache.get("SansSerif", Font.BOLD, 12));
                     }
 
                     g.drawString(getBrickInitial(type), x + 35, y + 20);
@@ -213,7 +214,7 @@ public class LevelEditor {
 
         g.setColor(Color.YELLOW);
         if (customFont != null) {
-            g.setFont(customFont.deriveFont(20f));
+            g.setFont(FontCache.derive(customFont, 20f));
         }
         g.drawString(statusMessage, 400 - 50, 570);
     }
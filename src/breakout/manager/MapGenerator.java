@@ -1,12 +1,23 @@
 package breakout.manager;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
+import java.awt.Composite;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
 
+import breakout.engine.SpatialGrid;
 import breakout.entity.Brick;
+import breakout.entity.BrickType;
 import breakout.entity.HardBrick;
 import breakout.entity.MediumBrick;
 import breakout.entity.NormalBrick;
@@ -20,13 +31,130 @@ public class MapGenerator {
     private int brickWidth = 80;
     private int brickHeight = 30;
 
+    // 충돌 검사 시 근처 벽돌만 찾기 위한 격자 인덱스 (한 칸 = 벽돌 한 개 정도 크기)
+    private final SpatialGrid<Brick> brickGrid = new SpatialGrid<>(GamePanel.WIDTH, GamePanel.HEIGHT, 85, 35);
+
+    // 고정 벽돌을 미리 그려두는 레이어. 바뀐 벽돌만 다시 그리고 매 프레임 한 번에 복사한다.
+    private BufferedImage brickLayer;
+    private GraphicsConfiguration layerConfig;
+    private boolean layerValid = false;
+    // 레이어에 마지막으로 그렸을 때의 벽돌 상태 (리스트 인덱스 기준)
+    private int[] drawnHp = new int[0];
+    private boolean[] drawnAlive = new boolean[0];
+    private Color[] drawnColor = new Color[0];
+
+    // 남은 벽돌 수 (전체 / 종류별). 벽돌이 파괴될 때마다 바로 줄어든다.
+    private int liveBrickCount = 0;
+    private final int[] liveCountByType = new int[BrickType.values().length];
+    private int destroyedBrickCount = 0;
+    private final Consumer<Brick> destroyListener = this::onBrickDestroyed;
+    // 랜덤 배치 레벨용 난수 (세션 시드에서 갈라낸 스트림을 받으면 같은 시드로 같은 맵이 나온다)
+    private SplittableRandom random = new SplittableRandom();
+
     public MapGenerator() {
         bricks = new ArrayList<>();
+        brickGrid.rebuild(bricks);
+    }
+
+    // 에디터에서 만든 맵 등 외부에서 만든 벽돌 목록으로 교체
+    public void setBricks(ArrayList<Brick> newBricks) {
+        bricks = newBricks;
+        brickGrid.rebuild(bricks);
+        recountBricks();
+        invalidateLayer();
+    }
+
+    // 목록은 그대로 두고 벽돌의 체력/파괴 여부/위치를 직접 고쳤을 때 호출.
+    // 격자를 새로 만들지 않고 칸이 바뀐 벽돌만 다시 등록한다 (할당 없음)
+    public void refreshBricks() {
+        for (int i = 0; i < bricks.size(); i++) {
+            brickGrid.update(i);
+        }
+        recountBricks();
+        invalidateLayer();
+    }
+
+    // 벽돌 목록이 바뀌었을 때 남은 벽돌 수를 다시 세고 파괴 알림을 연결한다
+    private void recountBricks() {
+        liveBrickCount = 0;
+        destroyedBrickCount = 0;
+        Arrays.fill(liveCountByType, 0);
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick b = bricks.get(i);
+            b.setDestroyListener(destroyListener);
+            if (b.isDestroyed) {
+                destroyedBrickCount++;
+            } else {
+                liveBrickCount++;
+                liveCountByType[b.getType().ordinal()]++;
+            }
+        }
+    }
+
+    private void onBrickDestroyed(Brick b) {
+        liveBrickCount--;
+        liveCountByType[b.getType().ordinal()]--;
+        destroyedBrickCount++;
+    }
+
+    /** 남은(파괴되지 않은) 벽돌 수. */
+    public int getLiveBrickCount() {
+        return liveBrickCount;
+    }
+
+    /** 종류별 남은 벽돌 수. */
+    public int getLiveBrickCount(BrickType type) {
+        return liveCountByType[type.ordinal()];
+    }
+
+    /** 현재 맵에서 지금까지 파괴된 벽돌 수. */
+    public int getDestroyedBrickCount() {
+        return destroyedBrickCount;
+    }
+
+    public boolean isCleared() {
+        return liveBrickCount == 0;
+    }
+
+    // 벽돌 색상을 한꺼번에 바꾸는 등 레이어 전체를 다시 그려야 할 때 호출
+    public void invalidateLayer() {
+        layerValid = false;
+    }
+
+    public SpatialGrid<Brick> getBrickGrid() {
+        return brickGrid;
+    }
+
+    // 주어진 영역 근처의 벽돌만 out에 담는다 (파괴된 벽돌 포함, 리스트 순서 유지)
+    public void queryBricks(double x, double y, double w, double h, List<Brick> out) {
+        brickGrid.query(x, y, w, h, out);
+    }
+
+    // 움직이는 벽돌을 프레임당 한 번만 이동시키고 격자 인덱스를 갱신
+    public void update() {
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick b = bricks.get(i);
+            if (b instanceof MovingBrick && !b.isDestroyed) {
+                b.update();
+                brickGrid.update(i);
+            }
+        }
+    }
+
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
     }
 
     // 레벨 번호에 따른 맵 생성 로직
     public void loadLevel(int level) {
         bricks.clear();
+        createLevel(level);
+        brickGrid.rebuild(bricks);
+        recountBricks();
+        invalidateLayer();
+    }
+
+    private void createLevel(int level) {
 
         switch (level) {
             case 1:
@@ -277,8 +405,8 @@ public class MapGenerator {
         int startX = getStartX(cols);
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                if (Math.random() > 0.3) {
-                    if (Math.random() < 0.15) {
+                if (random.nextDouble() > 0.3) {
+                    if (random.nextDouble() < 0.15) {
                         bricks.add(new MovingBrick(startX + j * 85, 60 + i * 35, brickWidth, brickHeight, Color.RED, 2, 40, 2.5));
                     } else {
                         addRandomBrick(startX + j * 85, 60 + i * 35);
@@ -307,7 +435,7 @@ public class MapGenerator {
         int startX = getStartX(cols);
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                if (Math.random() < 0.4) {
+                if (random.nextDouble() < 0.4) {
                     bricks.add(new ExplosiveBrick(startX + j * 85, 60 + i * 35, brickWidth, brickHeight));
                 } else {
                     bricks.add(new HardBrick(startX + j * 85, 60 + i * 35, brickWidth, brickHeight));
@@ -347,7 +475,7 @@ public class MapGenerator {
         int startX = getStartX(cols);
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                double r = Math.random();
+                double r = random.nextDouble();
                 if (r < 0.1) {
                     bricks.add(new ExplosiveBrick(startX + j * 85, 40 + i * 35, brickWidth, brickHeight));
                 } else if (r < 0.4) {
@@ -362,7 +490,7 @@ public class MapGenerator {
     }
 
     private void addRandomBrick(int x, int y) {
-        double r = Math.random();
+        double r = random.nextDouble();
         if (r < 0.1) {
             bricks.add(new ExplosiveBrick(x, y, brickWidth, brickHeight));
         } else if (r < 0.3) {
@@ -373,9 +501,100 @@ public class MapGenerator {
     }
 
     public void draw(Graphics2D g) {
+        draw(g, 1.0);
+    }
+
+    // alpha: 직전/현재 물리 스텝 사이 보간 비율 (움직이는 벽돌에만 적용)
+    public void draw(Graphics2D g, double alpha) {
+        updateBrickLayer(g.getDeviceConfiguration());
+        g.drawImage(brickLayer, 0, 0, null);
+
+        // 움직이는 벽돌은 레이어 위에 매 프레임 따로 그린다
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick b = bricks.get(i);
+            if (b instanceof MovingBrick && !b.isDestroyed) {
+                b.draw(g, alpha);
+            }
+        }
+    }
+
+    private void updateBrickLayer(GraphicsConfiguration gc) {
+        if (brickLayer == null || gc != layerConfig) {
+            brickLayer = gc.createCompatibleImage(GamePanel.WIDTH, GamePanel.HEIGHT, Transparency.TRANSLUCENT);
+            layerConfig = gc;
+            layerValid = false;
+        }
+
+        int n = bricks.size();
+        Graphics2D lg = brickLayer.createGraphics();
+        lg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        try {
+            if (!layerValid) {
+                // 전체 다시 그리기
+                Composite old = lg.getComposite();
+                lg.setComposite(AlphaComposite.Clear);
+                lg.fillRect(0, 0, GamePanel.WIDTH, GamePanel.HEIGHT);
+                lg.setComposite(old);
+
+                if (drawnHp.length < n) {
+                    drawnHp = new int[n];
+                    drawnAlive = new boolean[n];
+                    drawnColor = new Color[n];
+                }
+                Arrays.fill(drawnAlive, false);
+                Arrays.fill(drawnColor, null);
+
+                for (int i = 0; i < n; i++) {
+                    Brick b = bricks.get(i);
+                    if (b instanceof MovingBrick) {
+                        continue;
+                    }
+                    if (!b.isDestroyed) {
+                        b.draw(lg);
+                    }
+                    rememberDrawnState(i, b);
+                }
+                layerValid = true;
+                return;
+            }
+
+            // 맞아서 체력/색상이 바뀌었거나 파괴된 벽돌만 그 영역을 지우고 다시 그린다
+            for (int i = 0; i < n; i++) {
+                Brick b = bricks.get(i);
+                if (b instanceof MovingBrick) {
+                    continue;
+                }
+                if (drawnAlive[i] == !b.isDestroyed && drawnHp[i] == b.hp && drawnColor[i] == b.color) {
+                    continue;
+                }
+                int x = (int) b.getPosition().x;
+                int y = (int) b.getPosition().y;
+                Composite old = lg.getComposite();
+                lg.setComposite(AlphaComposite.Clear);
+                // 외곽선(drawRect)이 너비+1까지 그려지므로 1픽셀 여유를 두고 지운다
+                lg.fillRect(x, y, (int) b.getWidth() + 1, (int) b.getHeight() + 1);
+                lg.setComposite(old);
+                if (!b.isDestroyed) {
+                    b.draw(lg);
+                }
+                rememberDrawnState(i, b);
+            }
+        } finally {
+            lg.dispose();
+        }
+    }
+
+    private void rememberDrawnState(int i, Brick b) {
+        drawnAlive[i] = !b.isDestroyed;
+        drawnHp[i] = b.hp;
+        drawnColor[i] = b.color;
+    }
+
+    // 물리 스텝 직전 위치 저장 (움직이는 벽돌만 위치가 바뀐다)
+    public void savePreviousPositions() {
         for (Brick b : bricks) {
-            if (!b.isDestroyed) {
-                b.draw(g);
+            if (b instanceof MovingBrick) {
+                b.savePreviousPosition();
             }
         }
     }
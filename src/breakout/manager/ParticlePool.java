@@ -0,0 +1,237 @@
+package breakout.manager;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 고정 용량 파티클 풀.
+ * 파티클 하나를 객체로 만들지 않고 속성별 기본형 배열에 나눠 담는다 (구조체 배열 대신 배열 구조체).
+ * 그리기는 투명도 구간별로 묶어서 Composite/색상 변경 횟수를 줄인다.
+ */
+class ParticlePool {
+
+    // 파티클 한 개의 크기 / 물리 값 (기존 Particle 클래스와 동일)
+    private static final int SIZE = 8;
+    private static final double HALF = SIZE / 2.0;
+    private static final double GRAVITY = 0.4;
+    private static final float FADE_PER_UPDATE = 0.02f;
+
+    // 투명도 구간 수 (구간마다 AlphaComposite를 미리 만들어 둔다)
+    private static final int ALPHA_BUCKETS = 16;
+    private static final AlphaComposite[] BUCKET_COMPOSITES = new AlphaComposite[ALPHA_BUCKETS + 1];
+
+    static {
+        for (int i = 0; i <= ALPHA_BUCKETS; i++) {
+            BUCKET_COMPOSITES[i] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) i / ALPHA_BUCKETS);
+        }
+    }
+
+    // 풀이 이 비율 이상 차면 새 폭발의 파티클 수를 줄이기 시작한다
+    private static final double DEGRADE_THRESHOLD = 0.5;
+
+    private double[] x, y, velX, velY, rotation, rotSpeed;
+    private float[] alpha;
+    private Color[] color;
+    private int count = 0;
+    private int capacity;
+
+    // 꽉 찼을 때 덮어쓸 슬롯 위치 (돌아가면서 덮어쓴다)
+    private int stealCursor = 0;
+
+    // 그리기용 버퍼
+    private int[] order;
+    private final int[] bucketStart = new int[ALPHA_BUCKETS + 2];
+    private final int[] polyX = new int[4];
+    private final int[] polyY = new int[4];
+
+    private SplittableRandom random = new SplittableRandom();
+
+    ParticlePool(int capacity) {
+        allocate(capacity);
+    }
+
+    // 세션 시드에서 갈라낸 스트림을 받는다 (같은 시드면 파티클 궤적도 같다)
+    void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    /** 용량 변경. 줄어들면 넘치는 파티클은 버린다. */
+    void setCapacity(int newCapacity) {
+        if (newCapacity <= 0) {
+            throw new IllegalArgumentException("capacity must be > 0");
+        }
+        if (newCapacity == capacity) {
+            return;
+        }
+        double[] ox = x, oy = y, ovx = velX, ovy = velY, orot = rotation, ors = rotSpeed;
+        float[] oa = alpha;
+        Color[] oc = color;
+        int keep = Math.min(count, newCapacity);
+
+        allocate(newCapacity);
+        System.arraycopy(ox, 0, x, 0, keep);
+        System.arraycopy(oy, 0, y, 0, keep);
+        System.arraycopy(ovx, 0, velX, 0, keep);
+        System.arraycopy(ovy, 0, velY, 0, keep);
+        System.arraycopy(orot, 0, rotation, 0, keep);
+        System.arraycopy(ors, 0, rotSpeed, 0, keep);
+        System.arraycopy(oa, 0, alpha, 0, keep);
+        System.arraycopy(oc, 0, color, 0, keep);
+        count = keep;
+    }
+
+    private void allocate(int cap) {
+        capacity = cap;
+        x = new double[cap];
+        y = new double[cap];
+        velX = new double[cap];
+        velY = new double[cap];
+        rotation = new double[cap];
+        rotSpeed = new double[cap];
+        alpha = new float[cap];
+        color = new Color[cap];
+        order = new int[cap];
+        count = 0;
+        stealCursor = 0;
+    }
+
+    /**
+     * (cx, cy)에서 requested개의 파티클을 뿌린다.
+     * 풀이 절반 이상 차 있으면 남은 자리에 비례해서 개수를 줄이고,
+     * 완전히 찼으면 기존 파티클 일부를 덮어써서 새 폭발도 최소한은 보이게 한다.
+     */
+    void spawn(double cx, double cy, Color c, int requested) {
+        int n = requested;
+        double load = (double) count / capacity;
+        if (load > DEGRADE_THRESHOLD) {
+            double room = (1.0 - load) / (1.0 - DEGRADE_THRESHOLD);
+            n = Math.max(1, (int) Math.ceil(requested * room));
+        }
+
+        for (int k = 0; k < n; k++) {
+            int i;
+            if (count < capacity) {
+                i = count++;
+            } else {
+                i = stealCursor;
+                stealCursor = (stealCursor + 1) % capacity;
+            }
+            x[i] = cx;
+            y[i] = cy;
+            velX[i] = (random.nextDouble() * 10) - 5;
+            velY[i] = (random.nextDouble() * 10) - 8;
+            rotation[i] = 0;
+            rotSpeed[i] = (random.nextDouble() * 0.4) - 0.2;
+            alpha[i] = 1.0f;
+            color[i] = c;
+        }
+    }
+
+    void update() {
+        int i = 0;
+        while (i < count) {
+            velY[i] += GRAVITY;
+            x[i] += velX[i];
+            y[i] += velY[i];
+            rotation[i] += rotSpeed[i];
+            alpha[i] -= FADE_PER_UPDATE;
+
+            if (alpha[i] <= 0) {
+                // 마지막 파티클을 빈 자리로 옮겨서 배열을 빈틈없이 유지
+                removeAt(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        velX[i] = velX[last];
+        velY[i] = velY[last];
+        rotation[i] = rotation[last];
+        rotSpeed[i] = rotSpeed[last];
+        alpha[i] = alpha[last];
+        color[i] = color[last];
+        color[last] = null;
+    }
+
+    void clear() {
+        for (int i = 0; i < count; i++) {
+            color[i] = null;
+        }
+        count = 0;
+        stealCursor = 0;
+    }
+
+    void draw(Graphics2D g) {
+        if (count == 0) {
+            return;
+        }
+
+        // 투명도 구간별 계수 정렬
+        Arrays.fill(bucketStart, 0);
+        for (int i = 0; i < count; i++) {
+            bucketStart[bucketOf(i) + 1]++;
+        }
+        for (int b = 1; b < bucketStart.length; b++) {
+            bucketStart[b] += bucketStart[b - 1];
+        }
+        for (int i = 0; i < count; i++) {
+            order[bucketStart[bucketOf(i)]++] = i;
+        }
+
+        Composite originalComposite = g.getComposite();
+        int currentBucket = -1;
+        Color currentColor = null;
+
+        for (int k = 0; k < count; k++) {
+            int i = order[k];
+            int bucket = bucketOf(i);
+            if (bucket != currentBucket) {
+                g.setComposite(BUCKET_COMPOSITES[bucket]);
+                currentBucket = bucket;
+            }
+            if (color[i] != currentColor) {
+                g.setColor(color[i]);
+                currentColor = color[i];
+            }
+
+            // 중심 기준으로 회전한 사각형의 네 꼭짓점 (AffineTransform 변경 없이)
+            double cxp = x[i] + HALF;
+            double cyp = y[i] + HALF;
+            double cos = Math.cos(rotation[i]) * HALF;
+            double sin = Math.sin(rotation[i]) * HALF;
+            polyX[0] = (int) Math.round(cxp - cos + sin);
+            polyY[0] = (int) Math.round(cyp - sin - cos);
+            polyX[1] = (int) Math.round(cxp + cos + sin);
+            polyY[1] = (int) Math.round(cyp + sin - cos);
+            polyX[2] = (int) Math.round(cxp + cos - sin);
+            polyY[2] = (int) Math.round(cyp + sin + cos);
+            polyX[3] = (int) Math.round(cxp - cos - sin);
+            polyY[3] = (int) Math.round(cyp - sin + cos);
+            g.fillPolygon(polyX, polyY, 4);
+        }
+
+        g.setComposite(originalComposite);
+    }
+
+    private int bucketOf(int i) {
+        int b = (int) (alpha[i] * ALPHA_BUCKETS + 0.5f);
+        return b < 0 ? 0 : (b > ALPHA_BUCKETS ? ALPHA_BUCKETS : b);
+    }
+}
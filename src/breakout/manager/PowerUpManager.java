@@ -2,19 +2,18 @@ package breakout.manager;
 
 import java.awt.Graphics2D;
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.Random;
+import java.util.SplittableRandom;
 
+import breakout.engine.GameSimulation;
 import breakout.entity.ExpandPaddlePowerUp;
 import breakout.entity.ExtraLifePowerUp;
 import breakout.entity.Paddle;
 import breakout.entity.PowerUp;
-import breakout.view.GamePanel;
 
 public class PowerUpManager {
 
     private ArrayList<PowerUp> powerUps = new ArrayList<>();
-    private Random random = new Random();
+    private SplittableRandom random = new SplittableRandom();
 
     // 벽돌 파괴 시 일정 확률(20%)로 아이템 생성
     public void maybeSpawn(double x, double y) {
@@ -29,31 +28,34 @@ public class PowerUpManager {
         }
     }
 
-    public void update(GamePanel game, Paddle paddle) {
-        Iterator<PowerUp> it = powerUps.iterator();
-        
-        while (it.hasNext()) {
-            PowerUp p = it.next();
+    public void update(GameSimulation game, Paddle paddle) {
+        // 뒤에서부터 돌면서 제거 (Iterator 생성 없이)
+        for (int i = powerUps.size() - 1; i >= 0; i--) {
+            PowerUp p = powerUps.get(i);
             p.update();
 
             // 패들과의 충돌 체크 및 아이템 효과 적용
-            if (p.getBounds().intersects(paddle.getBounds())) {
-                game.getSoundManager().playPowerupSound();
-                p.applyEffect(game);
-                it.remove();
+            if (p.intersects(paddle)) {
+                game.collectPowerUp(p);
+                powerUps.remove(i);
                 continue;
             }
 
             // 아이템이 화면 하단 밖으로 나갈 경우 제거
-            if (p.getPosition().y > GamePanel.HEIGHT) {
-                it.remove();
+            if (p.getPosition().y > GameSimulation.HEIGHT) {
+                powerUps.remove(i);
             }
         }
     }
 
+    // 세션 시드에서 갈라낸 스트림을 받는다
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
     public void draw(Graphics2D g) {
-        for (PowerUp p : powerUps) {
-            p.draw(g);
+        for (int i = 0; i < powerUps.size(); i++) {
+            powerUps.get(i).draw(g);
         }
     }
 
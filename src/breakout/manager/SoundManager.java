@@ -2,8 +2,18 @@ package breakout.manager;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
 import javax.sound.sampled.*;
 
 public class SoundManager {
@@ -19,15 +29,52 @@ public class SoundManager {
     public static final String SOUND_WALL = "hit.wav";
     public static final String SOUND_BUY = "buy.wav";
     public static final String SOUND_ERROR = "error.wav";
-    public static final String SOUND_GAMEOVER = "GameOver.wav";
+    public static final String SOUND_GAMEOVER = "gameover.wav";
     public static final String SOUND_BOMB = "bomb.wav";
-
+    public static final String SOUND_BGM = "Bgm.wav";
+
+    // 시작할 때 미리 불러올 소리 목록
+    // 효과음: 믹서용으로 디코딩 (믹서가 없으면 Clip 보이스 풀)
+    private static final String[] EFFECT_MANIFEST = {
+            SOUND_HIT, SOUND_FAIL, SOUND_EXPLODE, SOUND_CLICK, SOUND_POWERUP, SOUND_BUY, SOUND_ERROR, SOUND_BOMB
+    };
+    // 음악/징글: 단일 Clip
+    private static final String[] MUSIC_MANIFEST = {
+            SOUND_BGM, SOUND_GAMEOVER, SOUND_VICTORY
+    };
+
+    // 효과음별 동시 재생 보이스 수 (자주 겹치는 소리일수록 많이). 믹서와 Clip 보이스 풀 모두 이 상한을 지킨다.
+    private static final int DEFAULT_VOICES = 2;
+    private static final Map<String, Integer> VOICE_LIMITS = Map.of(
+            SOUND_HIT, 6,
+            SOUND_EXPLODE, 4,
+            SOUND_BOMB, 3,
+            SOUND_POWERUP, 3);
+
+    // 효과음 믹서 (출력 라인을 못 열면 null이고 Clip 보이스 풀로 재생)
+    private AudioMixer mixer;
+
+    // BGM / 게임오버 / 승리처럼 한 번에 하나만 도는 소리
     private Map<String, Clip> clipCache;
+    // 일반 효과음
+    private Map<String, ClipVoicePool> voicePools;
+    // 파일이 없거나 읽지 못한 소리 (다시 디스크를 보지 않는다)
+    private final Set<String> missingSounds = ConcurrentHashMap.newKeySet();
+    // 소리별 로드 시간 (ns)
+    private final Map<String, Long> loadTimes = new ConcurrentHashMap<>();
     private Clip currentBgmClip;
-    private String currentBgmName = "";
-    private boolean isMuted = false;
+    private volatile String currentBgmName = "";
+    private volatile boolean isMuted = false;
     private float masterVolume = -10.0f;
 
+    // 재생 요청 큐. 게임 스레드는 넣기만 하고, 실제 Clip/믹서 호출은 작업 스레드가 한다.
+    private final ConcurrentLinkedQueue<Runnable> eventQueue = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+
+    // 같은 프레임에 같은 효과음이 여러 번 요청되면 한 번만 재생한다
+    private final Map<String, Long> lastQueuedFrame = new ConcurrentHashMap<>();
+    private volatile long frameId = 0;
+
     private static SoundManager INSTANCE = null;
 
     public static synchronized SoundManager getInstance() {
@@ -42,17 +89,155 @@ public class SoundManager {
     }
 
     public SoundManager() {
-        this.clipCache = new HashMap<>();
-        preLoadSound(SOUND_HIT);
+        this.clipCache = new ConcurrentHashMap<>();
+        this.voicePools = new ConcurrentHashMap<>();
+        this.mixer = AudioMixer.open();
+        preloadManifest();
+
+        worker = new Thread(this::runWorker, "SoundWorker");
+        worker.setDaemon(true);
+        worker.start();
         System.out.println("[SoundManager] Audio System Initialized.");
     }
 
-    private void preLoadSound(String fileName) {
+    /** 한 업데이트 프레임이 끝났음을 알린다. 이후 요청은 새 프레임으로 보고 중복 제거를 다시 시작한다. */
+    public void endFrame() {
+        frameId++;
+    }
+
+    private void enqueue(Runnable event) {
+        eventQueue.offer(event);
+        LockSupport.unpark(worker);
+    }
+
+    private void runWorker() {
+        while (true) {
+            Runnable event = eventQueue.poll();
+            if (event == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            try {
+                event.run();
+            } catch (Exception e) {
+                // 재생 실패가 작업 스레드를 멈추지 않도록 무시
+            }
+        }
+    }
+
+    // 목록에 있는 소리를 병렬로 모두 불러온다
+    private void preloadManifest() {
+        long start = System.nanoTime();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (String name : EFFECT_MANIFEST) {
+            tasks.add(() -> {
+                preloadEffect(name);
+                return null;
+            });
+        }
+        for (String name : MUSIC_MANIFEST) {
+            tasks.add(() -> {
+                preloadMusic(name);
+                return null;
+            });
+        }
+
+        int threads = Math.min(tasks.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            pool.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdown();
+        }
+
+        if (AssetLoader.LOG_LOAD_TIMES) {
+            for (Map.Entry<String, Long> e : getLoadTimes().entrySet()) {
+                System.out.printf("[SoundManager] %s loaded in %.1f ms%n", e.getKey(), e.getValue() / 1_000_000.0);
+            }
+            System.out.printf("[SoundManager] preload %.1f ms%n", (System.nanoTime() - start) / 1_000_000.0);
+        }
+    }
+
+    private void preloadEffect(String fileName) {
+        File file = findSoundFile(fileName);
+        if (file == null) {
+            return;
+        }
+        long t0 = System.nanoTime();
+        try {
+            if (mixer != null) {
+                mixer.load(fileName, file, voiceLimit(fileName));
+            } else {
+                loadVoicePool(fileName);
+            }
+            loadTimes.put(fileName, System.nanoTime() - t0);
+        } catch (Exception e) {
+            // 믹서 디코딩에 실패했으면 Clip 보이스 풀로 한 번 더 시도
+            try {
+                loadVoicePool(fileName);
+                loadTimes.put(fileName, System.nanoTime() - t0);
+            } catch (Exception e2) {
+                markUnavailable(fileName, e2);
+            }
+        }
+    }
+
+    private void preloadMusic(String fileName) {
+        long t0 = System.nanoTime();
         try {
-            loadClip(fileName);
+            if (loadClip(fileName) != null) {
+                loadTimes.put(fileName, System.nanoTime() - t0);
+            }
         } catch (Exception e) {
-            // 로드 실패 시 무시
+            markUnavailable(fileName, e);
+        }
+    }
+
+    private void markUnavailable(String fileName, Exception cause) {
+        missingSounds.add(fileName);
+        System.out.println("[SoundManager] load failed: " + fileName + " (" + cause.getMessage() + ")");
+    }
+
+    /**
+     * 사운드 파일을 찾는다. 없으면 기억해 두고 다음부터는 디스크를 보지 않는다.
+     *
+     * @return 없으면 null
+     */
+    private File findSoundFile(String fileName) {
+        if (missingSounds.contains(fileName)) {
+            return null;
+        }
+        File file = new File(SOUND_PATH + fileName);
+        if (!file.exists()) {
+            missingSounds.add(fileName);
+            System.out.println("[SoundManager] missing sound: " + fileName);
+            return null;
+        }
+        return file;
+    }
+
+    /** 소리별 로드 시간(ns), 목록 순서대로. */
+    public Map<String, Long> getLoadTimes() {
+        Map<String, Long> ordered = new LinkedHashMap<>();
+        for (String name : EFFECT_MANIFEST) {
+            Long t = loadTimes.get(name);
+            if (t != null) {
+                ordered.put(name, t);
+            }
+        }
+        for (String name : MUSIC_MANIFEST) {
+            Long t = loadTimes.get(name);
+            if (t != null) {
+                ordered.put(name, t);
+            }
         }
+        return Collections.unmodifiableMap(ordered);
+    }
+
+    public boolean isMissing(String fileName) {
+        return missingSounds.contains(fileName);
     }
 
     public void playHitSound() {
@@ -99,13 +284,20 @@ public class SoundManager {
         playSpecialAndResume(SOUND_VICTORY);
     }
 
-    // 게임 오버나 승리 효과음 재생 후 기존 BGM으로 복구하는 로직
     private void playSpecialAndResume(String fileName) {
         if (isMuted) {
             return;
         }
+        enqueue(() -> doPlaySpecialAndResume(fileName));
+    }
+
+    // 게임 오버나 승리 효과음 재생 후 기존 BGM으로 복구하는 로직
+    private void doPlaySpecialAndResume(String fileName) {
+        if (isMuted) {
+            return;
+        }
 
-        stopBGM();
+        doStopBGM();
 
         try {
             Clip clip = loadClip(fileName);
@@ -129,16 +321,31 @@ public class SoundManager {
     }
 
     public void playSound(String fileName) {
+        if (isMuted || missingSounds.contains(fileName)) {
+            return;
+        }
+
+        long frame = frameId;
+        Long last = lastQueuedFrame.put(fileName, frame);
+        if (last != null && last == frame) {
+            return;
+        }
+        enqueue(() -> doPlaySound(fileName));
+    }
+
+    private void doPlaySound(String fileName) {
         if (isMuted) {
             return;
         }
-        
+
+        if (mixer != null && mixer.play(fileName, AudioMixer.dbToGain(masterVolume))) {
+            return;
+        }
+
         try {
-            Clip clip = loadClip(fileName);
-            if (clip != null) {
-                setVolume(clip, masterVolume);
-                clip.setFramePosition(0);
-                clip.start();
+            ClipVoicePool pool = loadVoicePool(fileName);
+            if (pool != null) {
+                pool.play();
             }
         } catch (Exception e) {
             // 재생 실패 시 무시
@@ -147,9 +354,12 @@ public class SoundManager {
 
     public void playBGM(String fileName) {
         this.currentBgmName = fileName;
+        enqueue(() -> doPlayBGM(fileName));
+    }
 
+    private void doPlayBGM(String fileName) {
         if (isMuted) {
-            stopBGM();
+            doStopBGM();
             return;
         }
 
@@ -157,7 +367,7 @@ public class SoundManager {
             return;
         }
 
-        stopBGM();
+        doStopBGM();
 
         try {
             Clip clip = loadClip(fileName);
@@ -174,6 +384,10 @@ public class SoundManager {
     }
 
     public void stopBGM() {
+        enqueue(this::doStopBGM);
+    }
+
+    private void doStopBGM() {
         if (currentBgmClip != null) {
             currentBgmClip.stop();
             currentBgmClip = null;
@@ -204,19 +418,42 @@ public class SoundManager {
             }
         }
 
-        File file = new File(SOUND_PATH + fileName);
-        if (!file.exists()) {
+        File file = findSoundFile(fileName);
+        if (file == null) {
             return null;
         }
 
-        AudioInputStream ais = AudioSystem.getAudioInputStream(file);
         Clip clip = AudioSystem.getClip();
-        clip.open(ais);
+        try (AudioInputStream ais = AudioSystem.getAudioInputStream(file)) {
+            clip.open(ais);
+        }
         clipCache.put(fileName, clip);
-        
+
         return clip;
     }
 
+    // 효과음 보이스 풀 로드 (볼륨은 열 때 한 번만 설정)
+    private static int voiceLimit(String fileName) {
+        return VOICE_LIMITS.getOrDefault(fileName, DEFAULT_VOICES);
+    }
+
+    private ClipVoicePool loadVoicePool(String fileName)
+            throws UnsupportedAudioFileException, IOException, LineUnavailableException {
+        ClipVoicePool pool = voicePools.get(fileName);
+        if (pool != null) {
+            return pool;
+        }
+
+        File file = findSoundFile(fileName);
+        if (file == null) {
+            return null;
+        }
+
+        pool = ClipVoicePool.open(file, voiceLimit(fileName), masterVolume);
+        voicePools.put(fileName, pool);
+        return pool;
+    }
+
     private void setVolume(Clip clip, float volume) {
         if (clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
             FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
@@ -225,12 +462,23 @@ public class SoundManager {
     }
 
     public void stopAll() {
-        stopBGM();
+        enqueue(this::doStopAll);
+    }
+
+    private void doStopAll() {
+        doStopBGM();
+
+        if (mixer != null) {
+            mixer.stopAll();
+        }
         
         for (Clip clip : clipCache.values()) {
             if (clip != null && clip.isRunning()) {
                 clip.stop();
             }
         }
+        for (ClipVoicePool pool : voicePools.values()) {
+            pool.stop();
+        }
     }
 }
\ No newline at end of file
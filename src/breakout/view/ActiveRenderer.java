@@ -0,0 +1,123 @@
+package breakout.view;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Toolkit;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.function.Consumer;
+
+/**
+ * 게임 스레드에서 직접 프레임을 그리는 능동 렌더링 도우미.
+ * VolatileImage 백버퍼에 한 프레임을 다 그린 뒤 화면에 한 번에 복사한다.
+ * Swing의 paintComponent는 마지막으로 완성된 프레임을 복사하기만 한다 (대체 경로).
+ */
+class ActiveRenderer {
+
+    private final Component target;
+    private final int width;
+    private final int height;
+
+    // 백버퍼 접근은 게임 스레드(그리기)와 EDT(대체 경로 복사)가 이 락으로 나눠 쓴다
+    private final Object frameLock = new Object();
+    private VolatileImage volatileBuffer;
+    private BufferedImage fallbackBuffer;
+    private boolean hasFrame = false;
+
+    ActiveRenderer(Component target, int width, int height) {
+        this.target = target;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * 백버퍼에 그린 뒤 대상 컴포넌트에 바로 복사한다 (게임 스레드에서 호출).
+     *
+     * @return 화면에 내보내지 못했으면 false (컴포넌트가 아직 표시되지 않은 경우 등)
+     */
+    boolean present(Consumer<Graphics2D> painter) {
+        synchronized (frameLock) {
+            do {
+                renderFrame(painter);
+                Graphics screen = target.getGraphics();
+                if (screen == null) {
+                    return false;
+                }
+                try {
+                    screen.drawImage(currentBuffer(), 0, 0, null);
+                } finally {
+                    screen.dispose();
+                }
+            } while (volatileBuffer != null && volatileBuffer.contentsLost());
+        }
+        Toolkit.getDefaultToolkit().sync();
+        return true;
+    }
+
+    /**
+     * 백버퍼에 그리기만 하고 화면 복사는 paintComponent(EDT)에 맡긴다 (게임 스레드에서 호출).
+     */
+    void renderOffscreen(Consumer<Graphics2D> painter) {
+        synchronized (frameLock) {
+            renderFrame(painter);
+        }
+    }
+
+    /**
+     * 마지막으로 완성된 프레임을 복사한다 (EDT의 paintComponent에서 호출).
+     *
+     * @return 보여줄 프레임이 없으면 false
+     */
+    boolean paintLatest(Graphics g) {
+        synchronized (frameLock) {
+            if (!hasFrame) {
+                return false;
+            }
+            if (volatileBuffer != null && volatileBuffer.contentsLost()) {
+                return false;
+            }
+            g.drawImage(currentBuffer(), 0, 0, null);
+            return true;
+        }
+    }
+
+    private Image currentBuffer() {
+        return volatileBuffer != null ? volatileBuffer : fallbackBuffer;
+    }
+
+    private void renderFrame(Consumer<Graphics2D> painter) {
+        GraphicsConfiguration gc = target.getGraphicsConfiguration();
+        if (gc != null) {
+            if (volatileBuffer == null
+                    || volatileBuffer.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (volatileBuffer != null) {
+                    volatileBuffer.flush();
+                }
+                volatileBuffer = gc.createCompatibleVolatileImage(width, height, Transparency.OPAQUE);
+            }
+        }
+
+        Graphics2D g;
+        if (volatileBuffer != null) {
+            g = volatileBuffer.createGraphics();
+        } else {
+            if (fallbackBuffer == null) {
+                fallbackBuffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            }
+            g = fallbackBuffer.createGraphics();
+        }
+
+        try {
+            g.setColor(target.getBackground());
+            g.fillRect(0, 0, width, height);
+            painter.accept(g);
+        } finally {
+            g.dispose();
+        }
+        hasFrame = true;
+    }
+}
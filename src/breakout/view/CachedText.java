@@ -0,0 +1,52 @@
+package breakout.view;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+
+/**
+ * 값이 바뀔 때만 다시 만드는 HUD 문자열.
+ * 문자열을 만든 값(key)과 폰트가 그대로면 문자열 생성과 글리프 배치를 건너뛰고
+ * 만들어 둔 GlyphVector를 그대로 그린다.
+ */
+final class CachedText {
+
+    private long key;
+    private boolean valid = false;
+    private Font font;
+    private FontRenderContext frc;
+    private GlyphVector glyphs;
+    private int width;
+
+    /**
+     * 같은 key와 폰트로 만든 글리프가 이미 있는지 확인한다.
+     * false면 호출 측에서 문자열을 만들어 set()을 호출한다.
+     */
+    boolean isValid(long key, Font font, Graphics2D g) {
+        return valid && this.key == key && this.font == font && g.getFontRenderContext().equals(frc);
+    }
+
+    void set(long key, String text, Font font, Graphics2D g) {
+        this.key = key;
+        this.font = font;
+        this.frc = g.getFontRenderContext();
+        this.glyphs = font.createGlyphVector(frc, text);
+        this.width = g.getFontMetrics(font).stringWidth(text);
+        this.valid = true;
+    }
+
+    /** drawString과 같이 (x, y)를 기준선 시작점으로 그린다. */
+    void draw(Graphics2D g, float x, float y) {
+        g.drawGlyphVector(glyphs, x, y);
+    }
+
+    /** FontMetrics.stringWidth 기준 너비 (가운데 정렬용). */
+    int getWidth() {
+        return width;
+    }
+
+    void invalidate() {
+        valid = false;
+    }
+}
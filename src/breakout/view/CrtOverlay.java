@@ -0,0 +1,67 @@
+package breakout.view;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RadialGradientPaint;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * CRT 필터 (주사선 + 선택적으로 가장자리 비네트).
+ * 한 번 구워 둔 반투명 이미지를 프레임마다 그대로 덮어 그린다.
+ */
+public class CrtOverlay {
+
+    private final int width;
+    private final int height;
+    private boolean vignette;
+    // 주사선(+비네트)을 미리 그려둔 반투명 오버레이
+    private BufferedImage overlay;
+    private GraphicsConfiguration overlayConfig;
+
+    public CrtOverlay(int width, int height, boolean vignette) {
+        this.width = width;
+        this.height = height;
+        this.vignette = vignette;
+    }
+
+    public void draw(Graphics2D g) {
+        GraphicsConfiguration gc = g.getDeviceConfiguration();
+        if (overlay == null || overlayConfig != gc) {
+            overlay = createOverlay(gc);
+            overlayConfig = gc;
+        }
+        g.drawImage(overlay, 0, 0, null);
+    }
+
+    // 주사선 150줄과 비네트를 이미지 한 장에 구워 둔다
+    private BufferedImage createOverlay(GraphicsConfiguration gc) {
+        BufferedImage image = gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(0, 0, 0, 50));
+        for (int y = 0; y < height; y += 4) {
+            g.fillRect(0, y, width, 2);
+        }
+        if (vignette) {
+            float radius = (float) Math.hypot(width, height) / 2f;
+            g.setPaint(new RadialGradientPaint(width / 2f, height / 2f, radius,
+                    new float[] {0.0f, 0.6f, 1.0f},
+                    new Color[] {new Color(0, 0, 0, 0), new Color(0, 0, 0, 0), new Color(0, 0, 0, 140)}));
+            g.fillRect(0, 0, width, height);
+        }
+        g.dispose();
+        return image;
+    }
+
+    public void setVignette(boolean vignette) {
+        if (this.vignette != vignette) {
+            this.vignette = vignette;
+            overlay = null;
+        }
+    }
+
+    public boolean isVignette() {
+        return vignette;
+    }
+}
@@ -0,0 +1,90 @@
+package breakout.view;
+
+import java.awt.Font;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 폰트 캐시.
+ * (글꼴 이름 또는 기준 폰트, 스타일, 크기) 조합마다 Font를 한 번만 만들고 재사용한다.
+ * 그리기 코드에서 매 프레임 new Font / deriveFont를 호출하지 않도록 한다.
+ */
+public final class FontCache {
+
+    private static final Map<FontKey, Font> fonts = new HashMap<>();
+    // 조회용 키를 재사용해서 매 프레임 키 객체를 만들지 않는다
+    private static final FontKey probe = new FontKey();
+
+    private FontCache() {
+
+    }
+
+    /** new Font(family, style, size)와 같은 폰트. */
+    public static synchronized Font get(String family, int style, int size) {
+        probe.set(null, family, style, size);
+        Font font = fonts.get(probe);
+        if (font == null) {
+            font = new Font(family, style, size);
+            store(font);
+        }
+        return font;
+    }
+
+    /** base.deriveFont(style, size)와 같은 폰트. */
+    public static synchronized Font derive(Font base, int style, float size) {
+        probe.set(base, null, style, size);
+        Font font = fonts.get(probe);
+        if (font == null) {
+            font = base.deriveFont(style, size);
+            store(font);
+        }
+        return font;
+    }
+
+    /** base.deriveFont(size)와 같은 폰트 (스타일 유지). */
+    public static Font derive(Font base, float size) {
+        return derive(base, base.getStyle(), size);
+    }
+
+    public static synchronized void clear() {
+        fonts.clear();
+    }
+
+    private static void store(Font font) {
+        FontKey key = new FontKey();
+        key.set(probe.base, probe.family, probe.style, probe.size);
+        fonts.put(key, font);
+    }
+
+    private static final class FontKey {
+        private Font base;
+        private String family;
+        private int style;
+        private float size;
+
+        void set(Font base, String family, int style, float size) {
+            this.base = base;
+            this.family = family;
+            this.style = style;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof FontKey)) {
+                return false;
+            }
+            FontKey k = (FontKey) o;
+            return base == k.base && style == k.style && size == k.size
+                    && (family == null ? k.family == null : family.equals(k.family));
+        }
+
+        @Override
+        public int hashCode() {
+            int h = base != null ? System.identityHashCode(base) : family.hashCode();
+            h = h * 31 + style;
+            h = h * 31 + Float.floatToIntBits(size);
+            return h;
+        }
+    }
+}
@@ -113,9 +113,9 @@ public class GameButton {
 
         // 4. 폰트 설정
         if (customFont != null) {
-            g.setFont(customFont.deriveFont(Font.BOLD, 20f));
+            g.setFont(FontCache.derive(customFont, Font.BOLD, 20f));
         } else {
-            g.setFont(new Font("SansSerif", Font.BOLD, 20));
+            g.setFont(FontCache.get("SansSerif", Font.BOLD, 20));
         }
 
         // 5. 텍스트 그림자 효과
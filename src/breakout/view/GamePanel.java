@@ -8,29 +8,36 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import javax.imageio.ImageIO;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.JPanel;
 
-import breakout.engine.CollisionDetector;
+import breakout.engine.GameLoop;
+import breakout.engine.GameSimulation;
+import breakout.engine.Renderable;
+import breakout.engine.Replay;
+import breakout.engine.ReplayRecorder;
+import breakout.engine.SimulationListener;
+import breakout.engine.Updatable;
 import breakout.entity.Ball;
 import breakout.entity.Brick;
+import breakout.entity.BrickSpriteCache;
 import breakout.entity.Paddle;
+import breakout.entity.PowerUp;
+import breakout.manager.AssetLoader;
 import breakout.manager.EffectManager;
 import breakout.manager.InputManager;
 import breakout.manager.LevelEditor;
 import breakout.manager.MapGenerator;
 import breakout.manager.MouseHandler;
-import breakout.manager.PowerUpManager;
 import breakout.manager.ScoreManager;
 import breakout.manager.SoundManager;
 import breakout.entity.Achievement;
 import breakout.manager.AchievementManager;
-import breakout.engine.Vector2D;
 
-public class GamePanel extends JPanel implements Runnable {
+public class GamePanel extends JPanel implements Updatable, Renderable, SimulationListener {
 
-    public static final int WIDTH = 800;
-    public static final int HEIGHT = 600;
+    public static final int WIDTH = GameSimulation.WIDTH;
+    public static final int HEIGHT = GameSimulation.HEIGHT;
 
     public static final int STATE_MENU = 0;
     public static final int STATE_PLAY = 1;
@@ -45,13 +52,14 @@ public class GamePanel extends JPanel implements Runnable {
     public static final int STATE_USER_CUSTOM = 10;
     public static final int STATE_NAME_INPUT = 11;
 
-    private Thread gameThread;
-    private boolean running = false;
-    private final int FPS = 60;
-    private final double SLOW_FACTOR = 0.7;
-    private final int SLOW_DURATION = FPS * 10;
-    private final int PIERCE_DURATION = FPS * 10;
-    private final int DOUBLE_SCORE_DURATION = FPS * 15;
+    private GameLoop gameLoop;
+    // 물리 스텝 주기 (초당 업데이트 횟수). 렌더링은 디스플레이 주사율로 따로 돈다.
+    private final int FPS = GameSimulation.FPS;
+    // 렌더 보간 비율: 직전 물리 스텝과 현재 물리 스텝 사이 위치 (0~1)
+    private volatile double renderAlpha = 1.0;
+    // 능동 렌더링: 게임 스레드가 백버퍼에 그려서 직접 화면에 복사 (끄면 paintComponent 경유)
+    private final boolean activeRendering = Boolean.parseBoolean(System.getProperty("breakout.activeRendering", "true"));
+    private ActiveRenderer activeRenderer;
 
     private ShopOverlayPanel shopOverlay;
     private Runnable shopOpener;
@@ -60,15 +68,17 @@ public class GamePanel extends JPanel implements Runnable {
     private MouseHandler mouseHandler;
     private EffectManager effectManager;
     private ScoreManager scoreManager;
-    private PowerUpManager powerUpManager;
     private AchievementManager achievementManager;
     private SoundManager soundManager;
     private LevelEditor levelEditor;
     private NotificationPopup notificationPopup;
 
-    private Paddle paddle;
-    private final ArrayList<Ball> balls = new ArrayList<>();
-    private MapGenerator mapGenerator;
+    // 공/패들/벽돌/점수/버프 등 게임 규칙은 시뮬레이션이 갖고, 패널은 그리기와 소리/이펙트만 맡는다
+    private GameSimulation simulation;
+    // 현재 판의 입력 기록 (끝나면 replays/ 아래에 저장, -Dbreakout.record=false로 끈다)
+    private final boolean recordReplays = Boolean.parseBoolean(System.getProperty("breakout.record", "true"));
+    private final File replayDir = new File(System.getProperty("breakout.replayDir", "replays"));
+    private ReplayRecorder recorder;
 
     private GameButton startButton, settingsButton, exitButton, userCustomButton;
     private GameButton leaderboardButton, achievementButton, editorButton, ucBackButton;
@@ -80,25 +90,29 @@ public class GamePanel extends JPanel implements Runnable {
     private PausePanel pausePanel;
     private NameInputModal nameModal;
 
-    private Image[] ballSkins;
+    // 이미지는 AssetLoader가 작업 스레드에서 불러오므로 아직 완료되지 않았을 수 있다
+    private List<CompletableFuture<BufferedImage>> ballSkins;
     private int currentSkinIndex = -1;
 
     private int gameState = STATE_MENU;
     private int previousState = STATE_MENU;
 
-    private int score = 0;
-    private int lives = 3;
     private boolean isSoundOn = true;
     private int shakeTimer = 0;
     private boolean wasEscPressed = false;
 
-    private BufferedImage[] backgrounds;
+    private List<CompletableFuture<BufferedImage>> backgrounds;
+    // 모든 에셋 로드 완료 시점
+    private CompletableFuture<Void> assetsLoaded;
     private int currentBgIndex = 0;
+    // 현재 배경을 패널 크기/화면 형식으로 미리 늘려둔 이미지 (배경이 바뀌면 다시 만든다)
+    private BufferedImage scaledBackground;
+    private int scaledBgIndex = -1;
+    private GraphicsConfiguration scaledBgConfig;
     private Image menuGifImage;
     private Font customFont;
 
-    private int comboCount = 0;
-    private float comboScale = 1.0f;
+    private final HudRenderer hud = new HudRenderer();
 
     private final Color[] colorList = {Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN, Color.BLUE, Color.MAGENTA, Color.WHITE, Color.CYAN};
     private final String[] colorNames = {"빨강", "주황", "노랑", "초록", "파랑", "보라", "흰색", "하늘"};
@@ -108,32 +122,25 @@ public class GamePanel extends JPanel implements Runnable {
     private int brickColorIndex = 2;
     private int paddleColorIndex = 7;
     private int paddleShapeIndex = 0;
+    // 화면 흔들림 전용 (게임 결과에 쓰는 난수는 시뮬레이션의 세션 시드에서 나온다)
     private final Random rng = new Random();
 
     private int currentLevel = 1;
 
-    private boolean doubleScoreActive = false;
-    private int doubleScoreTimer = 0;
-    private boolean piercingActive = false;
-    private int piercingTimer = 0;
-    private boolean slowBallActive = false;
-    private int slowBallTimer = 0;
-    private int bombBallCharges = 0;
-
-    private enum LuckyPrize {
-        EXTRA_LIFE, WIDE_PADDLE, SLOW_BALL, PIERCING_BALL, DOUBLE_SCORE
-    }
-
     private float fadeAlpha = 0.0f;
     private boolean isFading = false;
     private boolean isFadeOut = false;
     private int nextGameState = -1;
     private final float FADE_SPEED = 0.05f;
     private boolean isCRTFilterOn = false;
+    // CRT 필터 가장자리 어둡게 (비네트)는 -Dbreakout.crtVignette=true로 처음부터 켤 수 있다
+    private final CrtOverlay crtOverlay = new CrtOverlay(WIDTH, HEIGHT,
+            Boolean.parseBoolean(System.getProperty("breakout.crtVignette", "false")));
 
     public GamePanel() {
         setPreferredSize(new Dimension(WIDTH, HEIGHT));
         setDoubleBuffered(true);
+        activeRenderer = new ActiveRenderer(this, WIDTH, HEIGHT);
         setFocusable(true);
         requestFocus();
 
@@ -164,17 +171,16 @@ public class GamePanel extends JPanel implements Runnable {
 
         effectManager = new EffectManager();
         scoreManager = new ScoreManager();
-        powerUpManager = new PowerUpManager();
         achievementManager = new AchievementManager();
         soundManager = SoundManager.getInstance();
 
         notificationPopup = new NotificationPopup();
         achievementManager.setPopup(notificationPopup);
 
-        soundManager.playBGM("Bgm.wav");
+        soundManager.playBGM(SoundManager.SOUND_BGM);
         levelEditor = new LevelEditor();
 
-        loadResources();
+        CompletableFuture<Font> fontLoad = loadResources();
         initGameObjects();
         initUI();
         leaderboardPanel = new LeaderboardPanel(scoreManager);
@@ -182,33 +188,34 @@ public class GamePanel extends JPanel implements Runnable {
         levelSelectPanel = new LevelSelectPanel(this);
         pausePanel = new PausePanel(this);
         applyCustomColors();
+
+        // 메뉴 글자에 바로 필요하므로 폰트만 여기서 기다린다 (배경/스킨은 계속 백그라운드에서 로드)
+        Font baseFont = fontLoad.join();
+        if (baseFont != null) {
+            customFont = baseFont.deriveFont(Font.BOLD, 12f);
+        } else {
+            useDefaultFonts();
+        }
     }
 
-    private void loadResources() {
-        backgrounds = new BufferedImage[6];
+    // 이미지와 폰트를 병렬로 불러오기 시작한다. 폰트 로드 작업을 돌려준다.
+    private CompletableFuture<Font> loadResources() {
+        AssetLoader loader = new AssetLoader();
+        List<CompletableFuture<?>> all = new ArrayList<>();
+
+        backgrounds = new ArrayList<>();
         for (int i = 0; i < 6; i++) {
-            File file = new File("assets/bg" + (i + 1) + ".jpg");
-            if (file.exists()) {
-                try {
-                    backgrounds[i] = ImageIO.read(file);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            }
+            backgrounds.add(loader.loadImage("assets/bg" + (i + 1) + ".jpg"));
         }
+        all.addAll(backgrounds);
 
-        ballSkins = new Image[4];
+        ballSkins = new ArrayList<>();
         for (int i = 0; i < 4; i++) {
-            File file = new File("assets/skin" + (i + 1) + ".jpg");
-            if (file.exists()) {
-                try {
-                    ballSkins[i] = ImageIO.read(file);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            }
+            ballSkins.add(loader.loadImage("assets/skin" + (i + 1) + ".jpg"));
         }
+        all.addAll(ballSkins);
 
+        // GIF는 Toolkit이 알아서 비동기로 디코딩하고 애니메이션도 처리한다
         try {
             File gifFile = new File("assets/main_bg.gif");
             if (gifFile.exists()) {
@@ -218,18 +225,29 @@ public class GamePanel extends JPanel implements Runnable {
             e.printStackTrace();
         }
 
-        try {
-            File fontFile = new File("assets/DungGeunMo.ttf");
-            if (fontFile.exists()) {
-                Font baseFont = Font.createFont(Font.TRUETYPE_FONT, fontFile);
-                GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(baseFont);
-                customFont = baseFont.deriveFont(Font.BOLD, 12f);
-            } else {
-                useDefaultFonts();
-            }
-        } catch (Exception e) {
-            useDefaultFonts();
+        CompletableFuture<Font> fontLoad = loader.loadFont("assets/DungGeunMo.ttf");
+        all.add(fontLoad);
+
+        assetsLoaded = CompletableFuture.allOf(all.toArray(new CompletableFuture<?>[0]));
+        assetsLoaded.whenComplete((v, e) -> loader.shutdown());
+        return fontLoad;
+    }
+
+    /** 배경/스킨 이미지와 폰트 로드가 모두 끝나면 완료된다. */
+    public CompletableFuture<Void> getAssetsLoaded() {
+        return assetsLoaded;
+    }
+
+    // 로드가 끝난 이미지만 돌려준다 (아직이거나 실패면 null)
+    private static BufferedImage loadedImage(List<CompletableFuture<BufferedImage>> images, int index) {
+        if (images == null || index < 0 || index >= images.size()) {
+            return null;
         }
+        CompletableFuture<BufferedImage> f = images.get(index);
+        if (!f.isDone() || f.isCompletedExceptionally()) {
+            return null;
+        }
+        return f.join();
     }
 
     private void useDefaultFonts() {
@@ -260,12 +278,8 @@ public class GamePanel extends JPanel implements Runnable {
     }
 
     private void initGameObjects() {
-        paddle = new Paddle(WIDTH / 2 - 50, HEIGHT - 60, inputManager);
-        paddle.setColor(colorList[paddleColorIndex]);
-        paddle.setShapeType(paddleShapeIndex);
-        balls.clear();
-        balls.add(createBall(WIDTH / 2 - 10, HEIGHT - 100));
-        mapGenerator = new MapGenerator();
+        simulation = new GameSimulation(inputManager, this);
+        applyPaddleStyle();
         scoreManager.load();
     }
 
@@ -280,25 +294,46 @@ public class GamePanel extends JPanel implements Runnable {
     }
 
     @Override
-    public void run() {
-        double drawInterval = 1000000000 / FPS;
-        double nextDrawTime = System.nanoTime() + drawInterval;
-        running = true;
-
-        while (running) {
-            update();
-            repaint();
-            try {
-                double remainingTime = (nextDrawTime - System.nanoTime()) / 1000000;
-                Thread.sleep(Math.max(0, (long) remainingTime));
-                nextDrawTime += drawInterval;
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+    public void update() {
+        simulation.savePreviousPositions();
+        if (recorder != null) {
+            recorder.recordMouse(mouseHandler);
+        }
+        updateState();
+        soundManager.endFrame();
+    }
+
+    @Override
+    public void render(double alpha) {
+        renderAlpha = alpha;
+        if (!isShowing()) {
+            return;
+        }
+        // 상점 오버레이가 떠 있으면 Swing이 그 위에 합성해야 하므로 paintComponent 경로로 내보낸다
+        boolean overlayVisible = shopOverlay != null && shopOverlay.isVisible();
+        if (activeRendering && !overlayVisible && activeRenderer.present(this::drawFrame)) {
+            return;
+        }
+        activeRenderer.renderOffscreen(this::drawFrame);
+        repaint();
+    }
+
+    private int detectRefreshRate() {
+        try {
+            if (!GraphicsEnvironment.isHeadless()) {
+                int rate = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                        .getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+                if (rate != DisplayMode.REFRESH_RATE_UNKNOWN && rate > 0) {
+                    return rate;
+                }
             }
+        } catch (Exception e) {
+            e.printStackTrace();
         }
+        return FPS;
     }
 
-    private void update() {
+    private void updateState() {
         if (isFading) {
             if (isFadeOut) {
                 fadeAlpha += FADE_SPEED;
@@ -331,9 +366,7 @@ public class GamePanel extends JPanel implements Runnable {
             shakeTimer--;
         }
 
-        if (comboScale > 1.0f) {
-            comboScale -= 0.05f;
-        }
+        hud.update();
 
         inputManager.update();
         effectManager.update();
@@ -396,7 +429,7 @@ public class GamePanel extends JPanel implements Runnable {
                         nameModal.update(mouseHandler, soundManager);
                         if (nameModal.isFinished()) {
                             if (!nameModal.isCancelled()) {
-                                scoreManager.addScore(nameModal.getInputName(), score);
+                                scoreManager.addScore(nameModal.getInputName(), simulation.getScore());
                             }
                             previousState = STATE_MENU;
                             transitionTo(STATE_LEADERBOARD);
@@ -458,9 +491,6 @@ public class GamePanel extends JPanel implements Runnable {
     }
 
     private void updatePlay() {
-        tickPowerTimers();
-        paddle.update();
-
         if (inputManager.escape && !wasEscPressed) {
             soundManager.playClickSound();
             gameState = STATE_PAUSED;
@@ -468,97 +498,93 @@ public class GamePanel extends JPanel implements Runnable {
             return;
         }
 
-        powerUpManager.update(this, paddle);
+        if (recorder != null) {
+            recorder.recordStep(inputManager);
+        }
+        simulation.step();
+    }
 
-        for (int i = balls.size() - 1; i >= 0; i--) {
-            Ball b = balls.get(i);
-            b.update();
-            CollisionDetector.handleWallCollision(b, 0, 0, WIDTH, HEIGHT, soundManager);
+    @Override
+    public void onBallCreated(Ball ball) {
+        applyBallSkinToBall(ball);
+    }
 
-            if (CollisionDetector.isColliding(b, paddle)) {
-                CollisionDetector.handlePaddleCollision(b, paddle);
-                if (b.getVelocity().y < 0) {
-                    startShake(5);
-                    soundManager.playHitSound();
-                    comboCount = 0;
-                }
-            }
+    @Override
+    public void onWallHit(Ball ball) {
+        soundManager.playWallSound();
+    }
 
-            for (Brick brick : mapGenerator.bricks) {
-                if (!brick.isDestroyed) {
-                    brick.update();
-                    if (b.getBounds().intersects(brick.getBounds())) {
-                        if (!piercingActive) {
-                            CollisionDetector.resolveBallVsRect(b, brick);
-                        }
-                        brick.hit();
+    @Override
+    public void onPaddleHit(Ball ball) {
+        startShake(5);
+        soundManager.playHitSound();
+    }
 
-                        double cx = brick.getPosition().x + brick.getWidth() / 2;
-                        double cy = brick.getPosition().y + brick.getHeight() / 2;
+    @Override
+    public void onBrickHit(Brick brick, double cx, double cy) {
+        int comboCount = simulation.getComboCount();
+        hud.onCombo(comboCount);
 
-                        if (bombBallCharges > 0) {
-                            bombBallCharges--;
-                            triggerExplosion(brick);
-                            effectManager.createExplosion(cx, cy, brick.color);
-                        }
+        achievementManager.unlock("첫 걸음");
+        if (simulation.getScore() >= 10000) {
+            achievementManager.unlock("고득점자");
+        }
 
-                        comboCount++;
-                        comboScale = Math.min(3.0f, 2.0f + (comboCount * 0.1f));
-                        addScoreWithMultiplier(brick.scoreValue + (comboCount > 1 ? comboCount * 10 : 0));
+        if (brick.isDestroyed) {
+            soundManager.playExplodeSound();
+            effectManager.createExplosion(cx, cy, brick.color);
+            startShake(15 + Math.min(comboCount, 10));
+        } else {
+            soundManager.playHitSound();
+            startShake(5);
+        }
+    }
 
-                        achievementManager.unlock("첫 걸음");
-                        if (score >= 10000) {
-                            achievementManager.unlock("고득점자");
-                        }
+    @Override
+    public void onExplosion(Brick source, boolean bombBall) {
+        soundManager.playBombSound();
+        if (bombBall) {
+            double cx = source.getPosition().x + source.getWidth() / 2;
+            double cy = source.getPosition().y + source.getHeight() / 2;
+            effectManager.createExplosion(cx, cy, source.color);
+        }
+        startShake(20);
+    }
 
-                        if (brick.isDestroyed) {
-                            soundManager.playExplodeSound();
-                            effectManager.createExplosion(cx, cy, brick.color);
-                            if (brick instanceof breakout.entity.ExplosiveBrick) {
-                                triggerExplosion(brick);
-                            }
-                            powerUpManager.maybeSpawn(cx, cy);
-                            startShake(15 + Math.min(comboCount, 10));
-                        } else {
-                            soundManager.playHitSound();
-                            startShake(5);
-                        }
+    @Override
+    public void onPowerUpCollected(PowerUp powerUp) {
+        soundManager.playPowerupSound();
+    }
 
-                        if (!piercingActive) {
-                            break;
-                        }
-                    }
-                }
-            }
-            if (b.getPosition().y > HEIGHT) {
-                balls.remove(i);
-            }
+    @Override
+    public void onLifeLost(int livesLeft) {
+        startShake(20);
+        if (livesLeft > 0) {
+            // 다음 라운드 시작 전 멈춤은 시뮬레이션이 스텝 단위로 처리한다 (GameSimulation.RESPAWN_DELAY)
+            soundManager.playFailSound();
         }
+    }
 
-        if (balls.isEmpty()) {
-            lives--;
-            startShake(20);
-            if (lives > 0) {
-                soundManager.playFailSound();
-                resetRound();
-            } else {
-                gameState = STATE_GAME_OVER;
-                promptAndAddScore(score);
-                soundManager.stopBGM();
-                soundManager.playGameOverSound();
-            }
-        }
+    @Override
+    public void onGameOver() {
+        saveRecording();
+        gameState = STATE_GAME_OVER;
+        promptAndAddScore(simulation.getScore());
+        soundManager.stopBGM();
+        soundManager.playGameOverSound();
+    }
 
-        if (mapGenerator.bricks.stream().noneMatch(br -> !br.isDestroyed)) {
-            if (lives == 3) {
-                achievementManager.unlock("생존 전문가");
-            }
-            gameState = STATE_VICTORY;
-            achievementManager.addClearCount();
-            promptAndAddScore(score);
-            soundManager.stopBGM();
-            soundManager.playVictorySound();
+    @Override
+    public void onVictory() {
+        saveRecording();
+        if (simulation.getLives() == 3) {
+            achievementManager.unlock("생존 전문가");
         }
+        gameState = STATE_VICTORY;
+        achievementManager.addClearCount();
+        promptAndAddScore(simulation.getScore());
+        soundManager.stopBGM();
+        soundManager.playVictorySound();
     }
 
     private void updateResult() {
@@ -567,57 +593,73 @@ public class GamePanel extends JPanel implements Runnable {
         victoryLevelButton.update(mouseHandler);
 
         if (victoryLevelButton.isClicked(mouseHandler)) {
-            soundManager.playBGM("Bgm.wav");
+            soundManager.playBGM(SoundManager.SOUND_BGM);
             transitionTo(STATE_LEVEL_SELECT);
         }
         if (restartButton.isClicked(mouseHandler)) {
-            soundManager.playBGM("Bgm.wav");
+            soundManager.playBGM(SoundManager.SOUND_BGM);
             startGameWithLevel(currentLevel);
         }
         if (menuButton.isClicked(mouseHandler)) {
-            soundManager.playBGM("Bgm.wav");
+            soundManager.playBGM(SoundManager.SOUND_BGM);
             transitionTo(STATE_MENU);
         }
     }
 
     private void resetGame() {
-        clearPowerStates();
-        paddle = new Paddle(WIDTH / 2 - 50, HEIGHT - 60, inputManager);
-        paddle.setColor(colorList[paddleColorIndex]);
-        paddle.setShapeType(paddleShapeIndex);
-        balls.clear();
-        balls.add(createBall(WIDTH / 2 - 10, HEIGHT - 100));
-        reapplySlowIfNeeded();
         if (currentLevel != 0) {
-            mapGenerator.loadLevel(currentLevel);
+            simulation.startLevel(currentLevel);
         } else {
-            mapGenerator.bricks = levelEditor.getGeneratedBricks();
+            simulation.startCustom(levelEditor.getGeneratedBricks());
         }
-        powerUpManager.clear();
+        effectManager.setRandom(simulation.getEffectRandom());
+        startRecording();
+        applyPaddleStyle();
         applyCustomColors();
-        score = 0;
-        lives = 3;
         shakeTimer = 0;
-        comboCount = 0;
         gameState = STATE_PLAY;
     }
 
-    private void resetRound() {
-        paddle.resetWidth();
-        paddle.getPosition().x = WIDTH / 2 - 50;
-        paddle.getPosition().y = HEIGHT - 60;
-        balls.clear();
-        balls.add(createBall(WIDTH / 2 - 10, HEIGHT - 100));
-        reapplySlowIfNeeded();
-        powerUpManager.clear();
-        comboCount = 0;
-        try {
-            Thread.sleep(500);
-        } catch (Exception e) {
-            e.printStackTrace();
+    private void startRecording() {
+        saveRecording();
+        // 에디터 맵은 벽돌 배치를 리플레이에 담지 않으므로 기록하지 않는다
+        if (recordReplays && currentLevel != 0) {
+            recorder = new ReplayRecorder(simulation.getSeed(), currentLevel);
         }
     }
 
+    private void saveRecording() {
+        if (recorder == null) {
+            return;
+        }
+        recorder.saveAsync(replayDir, simulation.getScore(), simulation.getLives())
+                .whenComplete((file, e) -> {
+                    if (e != null) {
+                        e.printStackTrace();
+                    } else {
+                        System.out.println("[Replay] saved " + file.getPath());
+                    }
+                });
+        recorder = null;
+    }
+
+    private void recordCommand(Replay.Command command, int value) {
+        if (recorder != null) {
+            recorder.recordCommand(command, value);
+        }
+    }
+
+    private void applyPaddleStyle() {
+        simulation.getPaddle().setColor(colorList[paddleColorIndex]);
+        applyPaddleShape();
+    }
+
+    // 패들 모양마다 반사 각도가 다르므로 리플레이에도 남긴다
+    private void applyPaddleShape() {
+        recordCommand(Replay.Command.PADDLE_SHAPE, paddleShapeIndex);
+        simulation.setPaddleShape(paddleShapeIndex);
+    }
+
     private void promptAndAddScore(int score) {
         if (!scoreManager.isHighScore(score)) {
             return;
@@ -629,7 +671,40 @@ public class GamePanel extends JPanel implements Runnable {
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D dbg = (Graphics2D) g;
+        // 게임 상태는 게임 스레드에서만 그린다. EDT는 마지막으로 완성된 프레임을 복사만 한다.
+        if (activeRenderer.paintLatest(g)) {
+            return;
+        }
+        if (gameLoop == null) {
+            // 루프 시작 전에는 게임 스레드가 없으므로 직접 그려도 안전하다
+            drawFrame((Graphics2D) g);
+        }
+    }
+
+    // 배경을 한 번만 늘려서 캐시한다 (매 프레임 JPEG 원본을 늘려 그리지 않도록)
+    private BufferedImage getScaledBackground(GraphicsConfiguration gc) {
+        if (scaledBackground != null && scaledBgIndex == currentBgIndex && scaledBgConfig == gc) {
+            return scaledBackground;
+        }
+        BufferedImage source = loadedImage(backgrounds, currentBgIndex);
+        if (source == null) {
+            // 아직 로드 중
+            return null;
+        }
+
+        BufferedImage scaled = gc.createCompatibleImage(WIDTH, HEIGHT, Transparency.OPAQUE);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, WIDTH, HEIGHT, null);
+        g.dispose();
+
+        scaledBackground = scaled;
+        scaledBgIndex = currentBgIndex;
+        scaledBgConfig = gc;
+        return scaled;
+    }
+
+    private void drawFrame(Graphics2D dbg) {
         dbg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         if (gameState == STATE_MENU || gameState == STATE_USER_CUSTOM) {
@@ -640,8 +715,9 @@ public class GamePanel extends JPanel implements Runnable {
                 dbg.fillRect(0, 0, WIDTH, HEIGHT);
             }
         } else {
-            if (backgrounds != null && backgrounds[currentBgIndex] != null) {
-                dbg.drawImage(backgrounds[currentBgIndex], 0, 0, WIDTH, HEIGHT, null);
+            BufferedImage background = getScaledBackground(dbg.getDeviceConfiguration());
+            if (background != null) {
+                dbg.drawImage(background, 0, 0, null);
             } else {
                 dbg.setColor(Color.BLACK);
                 dbg.fillRect(0, 0, WIDTH, HEIGHT);
@@ -650,7 +726,7 @@ public class GamePanel extends JPanel implements Runnable {
 
         int sx = 0, sy = 0;
         if (shakeTimer > 0) {
-            int intensity = 5 + (comboCount > 2 ? 5 : 0);
+            int intensity = 5 + (simulation.getComboCount() > 2 ? 5 : 0);
             sx = rng.nextInt(intensity * 2) - intensity;
             sy = rng.nextInt(intensity * 2) - intensity;
             dbg.translate(sx, sy);
@@ -713,111 +789,43 @@ public class GamePanel extends JPanel implements Runnable {
             dbg.fillRect(0, 0, WIDTH, HEIGHT);
         }
         if (isCRTFilterOn) {
-            drawCRT(dbg);
+            crtOverlay.draw(dbg);
         }
         if (notificationPopup != null) {
             notificationPopup.draw(dbg, WIDTH);
         }
-        if (gameState == STATE_MENU || gameState == STATE_USER_CUSTOM) {
-            Toolkit.getDefaultToolkit().sync();
-        }
     }
 
     private void drawPlay(Graphics2D dbg) {
-        mapGenerator.draw(dbg);
-        paddle.draw(dbg);
+        double alpha = renderAlpha;
+        simulation.getMapGenerator().draw(dbg, alpha);
+        simulation.getPaddle().draw(dbg, alpha);
         dbg.setColor(colorList[ballColorIndex]);
-        for (Ball b : balls) {
-            b.draw(dbg);
+        for (Ball b : simulation.getBalls()) {
+            b.draw(dbg, alpha);
         }
         effectManager.draw(dbg);
-        powerUpManager.draw(dbg);
-        drawHUD(dbg);
+        simulation.getPowerUpManager().draw(dbg);
+        hud.draw(dbg, simulation);
     }
 
     private void drawPaused(Graphics2D dbg) {
-        mapGenerator.draw(dbg);
-        paddle.draw(dbg);
-        for (Ball b : balls) {
-            b.draw(dbg);
+        double alpha = renderAlpha;
+        simulation.getMapGenerator().draw(dbg, alpha);
+        simulation.getPaddle().draw(dbg, alpha);
+        for (Ball b : simulation.getBalls()) {
+            b.draw(dbg, alpha);
         }
         if (pausePanel != null) {
             pausePanel.draw(dbg, customFont);
         }
     }
 
-    private void drawCRT(Graphics2D g) {
-        g.setColor(new Color(0, 0, 0, 50));
-        for (int y = 0; y < HEIGHT; y += 4) {
-            g.fillRect(0, y, WIDTH, 2);
-        }
-    }
-
-    private void drawHUD(Graphics2D g2) {
-        g2.setColor(new Color(0, 0, 0, 100));
-        g2.fillRect(0, 0, WIDTH, 40);
-        g2.setColor(Color.WHITE);
-        g2.setFont(new Font("Consolas", Font.BOLD, 24));
-        g2.drawString("SCORE: " + score, 20, 28);
-        for (int i = 0; i < lives; i++) {
-            drawHeart(g2, WIDTH - 120 + (i * 30), 10);
-        }
-        drawActiveBuffs(g2);
-        if (comboCount >= 2) {
-            drawCombo(g2);
-        }
-    }
-
-    private void drawCombo(Graphics2D g2) {
-        int fontSize = (int) (40 * comboScale);
-        g2.setFont(new Font("Consolas", Font.BOLD, fontSize));
-        Color[] flash = {Color.RED, Color.ORANGE, Color.YELLOW, Color.WHITE, Color.MAGENTA, Color.CYAN};
-        Color mainColor = flash[(int) ((System.currentTimeMillis() / 50) % flash.length)];
-        String text = comboCount + " COMBO!";
-        int tw = g2.getFontMetrics().stringWidth(text);
-        int drawX = WIDTH / 2 - tw / 2;
-        int drawY = 80;
-        g2.setColor(Color.DARK_GRAY);
-        for (int i = 1; i <= 8; i++) {
-            g2.drawString(text, drawX + i, drawY + i);
-        }
-        g2.setColor(mainColor);
-        g2.drawString(text, drawX, drawY);
-    }
-
-    private void drawActiveBuffs(Graphics2D g2) {
-        List<String> s = new ArrayList<>();
-        if (doubleScoreActive) {
-            s.add("2x SCORE " + (doubleScoreTimer / 60) + "s");
-        }
-        if (piercingActive) {
-            s.add("PIERCE " + (piercingTimer / 60) + "s");
-        }
-        if (slowBallActive) {
-            s.add("SLOW " + (slowBallTimer / 60) + "s");
-        }
-        if (bombBallCharges > 0) {
-            s.add("BOMB x" + bombBallCharges);
-        }
-        if (!s.isEmpty()) {
-            g2.setFont(new Font("Consolas", Font.BOLD, 16));
-            g2.setColor(Color.WHITE);
-            g2.drawString(String.join(" | ", s), 10, 55);
-        }
-    }
-
-    private void drawHeart(Graphics2D g2, int x, int y) {
-        g2.setColor(Color.RED);
-        g2.fillOval(x, y, 10, 10);
-        g2.fillOval(x + 10, y, 10, 10);
-        g2.fillPolygon(new int[]{x, x + 10, x + 20}, new int[]{y + 5, y + 20, y + 5}, 3);
-    }
-
     private void drawMenu(Graphics2D g2) {
         drawCentered3DText(g2, "샤갈적인 벽돌깨기", 150, Color.YELLOW, Color.DARK_GRAY, 70f);
         drawCentered3DText(g2, "⚜️태풍을 부르는 학생회의 반란⚜️", 210, Color.WHITE, Color.BLACK, 30f);
         g2.setColor(Color.CYAN);
-        g2.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2.setFont(FontCache.get("Consolas", Font.BOLD, 20));
         drawCenteredString(g2, "HIGH SCORE: " + scoreManager.getHighScore(), WIDTH / 2, 550);
         startButton.draw(g2, customFont);
         userCustomButton.draw(g2, customFont);
@@ -840,8 +848,8 @@ public class GamePanel extends JPanel implements Runnable {
         g2.fillRect(0, 0, WIDTH, HEIGHT);
         drawCentered3DText(g2, title, 200, color, Color.BLACK, 50f);
         g2.setColor(Color.WHITE);
-        g2.setFont(new Font("Consolas", Font.BOLD, 30));
-        drawCenteredString(g2, "Final Score: " + score, WIDTH / 2, 280);
+        g2.setFont(FontCache.get("Consolas", Font.BOLD, 30));
+        drawCenteredString(g2, "Final Score: " + simulation.getScore(), WIDTH / 2, 280);
 
         restartButton.draw(g2, customFont);
         victoryLevelButton.draw(g2, customFont);
@@ -864,7 +872,7 @@ public class GamePanel extends JPanel implements Runnable {
 
     private void drawCentered3DText(Graphics2D g2, String text, int y, Color c1, Color c2, float s) {
         if (customFont != null) {
-            g2.setFont(customFont.deriveFont(Font.BOLD, s));
+            g2.setFont(FontCache.derive(customFont, Font.BOLD, s));
         }
         int x = (WIDTH - g2.getFontMetrics().stringWidth(text)) / 2;
         g2.setColor(c2);
@@ -878,58 +886,6 @@ public class GamePanel extends JPanel implements Runnable {
         g.drawString(text, x - tw / 2, y);
     }
 
-    private void triggerExplosion(Brick b) {
-        soundManager.playBombSound();
-        Rectangle r = new Rectangle((int) b.getPosition().x - 80, (int) b.getPosition().y - 30, 240, 90);
-        for (Brick target : mapGenerator.bricks) {
-            if (!target.isDestroyed && target != b && r.intersects(target.getBounds())) {
-                target.hit();
-                if (target.isDestroyed) {
-                    addScoreWithMultiplier(target.scoreValue);
-                }
-            }
-        }
-        startShake(20);
-    }
-
-    private void tickPowerTimers() {
-        if (doubleScoreActive && --doubleScoreTimer <= 0) {
-            doubleScoreActive = false;
-        }
-        if (piercingActive && --piercingTimer <= 0) {
-            piercingActive = false;
-        }
-        if (slowBallActive && --slowBallTimer <= 0) {
-            disableSlowBall();
-        }
-    }
-
-    private void disableSlowBall() {
-        for (Ball b : balls) {
-            b.getVelocity().x /= SLOW_FACTOR;
-            b.getVelocity().y /= SLOW_FACTOR;
-        }
-        slowBallActive = false;
-    }
-
-    private void reapplySlowIfNeeded() {
-        if (slowBallActive) {
-            for (Ball b : balls) {
-                b.getVelocity().x *= SLOW_FACTOR;
-                b.getVelocity().y *= SLOW_FACTOR;
-            }
-        }
-    }
-
-    private void clearPowerStates() {
-        doubleScoreActive = piercingActive = slowBallActive = false;
-        bombBallCharges = 0;
-    }
-
-    private void addScoreWithMultiplier(int amount) {
-        score += doubleScoreActive ? amount * 2 : amount;
-    }
-
     public void startShake(int d) {
         this.shakeTimer = d;
     }
@@ -939,49 +895,21 @@ public class GamePanel extends JPanel implements Runnable {
     }
 
     public void startGame() {
-        if (gameThread == null) {
-            running = true;
-            gameThread = new Thread(this);
-            gameThread.start();
+        if (gameLoop == null) {
+            gameLoop = new GameLoop(this, this, FPS, detectRefreshRate());
+            gameLoop.start();
         }
     }
 
+    public GameLoop getGameLoop() {
+        return gameLoop;
+    }
+
     public void startGameWithLevel(int lv) {
         currentLevel = lv;
         resetGame();
     }
 
-    public void addLife() {
-        lives++;
-    }
-
-    public void expandPaddle() {
-        if (paddle != null) {
-            paddle.expand();
-        }
-    }
-
-    public void activateDoubleScore() {
-        doubleScoreActive = true;
-        doubleScoreTimer = DOUBLE_SCORE_DURATION;
-    }
-
-    public void activatePiercingBall() {
-        piercingActive = true;
-        piercingTimer = PIERCE_DURATION;
-    }
-
-    public void activateSlowBall() {
-        if (!slowBallActive) {
-            for (Ball b : balls) {
-                b.getVelocity().x *= SLOW_FACTOR;
-                b.getVelocity().y *= SLOW_FACTOR;
-            }
-        }
-        slowBallActive = true;
-        slowBallTimer = SLOW_DURATION;
-    }
-
     public void cycleBallColor() {
         ballColorIndex = (ballColorIndex + 1) % colorList.length;
     }
@@ -999,7 +927,7 @@ public class GamePanel extends JPanel implements Runnable {
     }
 
     public void applyBallSkin() {
-        for (Ball b : balls) {
+        for (Ball b : simulation.getBalls()) {
             applyBallSkinToBall(b);
         }
     }
@@ -1017,37 +945,37 @@ public class GamePanel extends JPanel implements Runnable {
 
     public void cyclePaddleColor() {
         paddleColorIndex = (paddleColorIndex + 1) % colorList.length;
-        if (paddle != null) {
-            paddle.setColor(colorList[paddleColorIndex]);
-        }
+        simulation.getPaddle().setColor(colorList[paddleColorIndex]);
     }
 
     public void cyclePaddleShape() {
         paddleShapeIndex = (paddleShapeIndex + 1) % 4;
-        if (paddle != null) {
-            paddle.setShapeType(paddleShapeIndex);
-        }
+        applyPaddleShape();
     }
 
     public void cycleBrickColor() {
         brickColorIndex = (brickColorIndex + 1) % colorList.length;
+        // 이전 팔레트로 그려둔 벽돌 스프라이트는 더 쓰지 않으므로 비운다
+        BrickSpriteCache.clear();
         applyCustomColors();
     }
 
     public void applyCustomColors() {
         Color target = colorList[brickColorIndex];
+        MapGenerator mapGenerator = simulation.getMapGenerator();
         for (Brick b : mapGenerator.bricks) {
             if (b instanceof breakout.entity.NormalBrick) {
                 b.color = target;
             }
         }
+        mapGenerator.invalidateLayer();
     }
 
     public void toggleSound() {
         isSoundOn = !isSoundOn;
         soundManager.setMute(!isSoundOn);
         if (isSoundOn) {
-            soundManager.playBGM("Bgm.wav");
+            soundManager.playBGM(SoundManager.SOUND_BGM);
         } else {
             soundManager.stopBGM();
         }
@@ -1065,12 +993,22 @@ public class GamePanel extends JPanel implements Runnable {
         return isCRTFilterOn;
     }
 
+    public void toggleCRTVignette() {
+        crtOverlay.setVignette(!crtOverlay.isVignette());
+    }
+
+    public boolean isCRTVignetteOn() {
+        return crtOverlay.isVignette();
+    }
+
     public void nextBackground() {
-        currentBgIndex = (currentBgIndex + 1) % backgrounds.length;
+        currentBgIndex = (currentBgIndex + 1) % backgrounds.size();
+        scaledBackground = null;
     }
 
     public void prevBackground() {
-        currentBgIndex = (currentBgIndex - 1 + backgrounds.length) % backgrounds.length;
+        currentBgIndex = (currentBgIndex - 1 + backgrounds.size()) % backgrounds.size();
+        scaledBackground = null;
     }
 
     public String getBallColorName() {
@@ -1100,6 +1038,7 @@ public class GamePanel extends JPanel implements Runnable {
     }
 
     public void gotoMenuFromPause() {
+        saveRecording();
         transitionTo(STATE_MENU);
     }
 
@@ -1126,84 +1065,75 @@ public class GamePanel extends JPanel implements Runnable {
         this.wasEscPressed = true;
     }
 
+    // 상점 구매는 스텝 사이에 시뮬레이션 상태를 바꾸므로 리플레이에 조작으로 남긴다
     public void applyLongPaddleFromShop() {
-        expandPaddle();
+        recordCommand(Replay.Command.EXPAND_PADDLE, 0);
+        simulation.expandPaddle();
     }
 
     public void applySlowBallFromShop() {
-        activateSlowBall();
+        recordCommand(Replay.Command.SLOW_BALL, 0);
+        simulation.activateSlowBall();
     }
 
     public void addLifeFromShop() {
-        addLife();
+        recordCommand(Replay.Command.ADD_LIFE, 0);
+        simulation.addLife();
     }
 
     public void applyPierceFromShop() {
-        activatePiercingBall();
+        recordCommand(Replay.Command.PIERCING_BALL, 0);
+        simulation.activatePiercingBall();
     }
 
     public void applyDoubleScoreFromShop() {
-        activateDoubleScore();
+        recordCommand(Replay.Command.DOUBLE_SCORE, 0);
+        simulation.activateDoubleScore();
     }
 
     public void applyBombBallFromShop() {
-        bombBallCharges++;
+        recordCommand(Replay.Command.BOMB_BALL, 0);
+        simulation.addBombBallCharge();
     }
 
     public void applyMultiBallFromShop() {
-        spawnMultiBall(2);
+        recordCommand(Replay.Command.MULTI_BALL, 2);
+        simulation.spawnMultiBall(2);
     }
 
     public String applyLuckyDrawFromShop() {
-        LuckyPrize prize = rollLuckyPrize();
-        switch (prize) {
+        recordCommand(Replay.Command.LUCKY_DRAW, 0);
+        switch (simulation.applyLuckyDraw()) {
             case EXTRA_LIFE:
-                addLife();
                 return "행운! 체력 +1";
             case WIDE_PADDLE:
-                expandPaddle();
                 return "패들 확장!";
             case SLOW_BALL:
-                activateSlowBall();
                 return "볼 슬로우 10초";
             case PIERCING_BALL:
-                activatePiercingBall();
                 return "관통 볼 10초";
             case DOUBLE_SCORE:
-                activateDoubleScore();
                 return "더블 스코어 15초";
             default:
                 return "행운 실패..?";
         }
     }
 
-    private LuckyPrize rollLuckyPrize() {
-        int roll = rng.nextInt(100);
-        if (roll < 20) {
-            return LuckyPrize.EXTRA_LIFE;
-        }
-        if (roll < 40) {
-            return LuckyPrize.WIDE_PADDLE;
-        }
-        if (roll < 60) {
-            return LuckyPrize.SLOW_BALL;
-        }
-        if (roll < 80) {
-            return LuckyPrize.PIERCING_BALL;
-        }
-        return LuckyPrize.DOUBLE_SCORE;
-    }
-
     public int getScore() {
-        return score;
+        return simulation.getScore();
     }
 
     public void spendScore(int a) {
-        score = Math.max(0, score - a);
+        recordCommand(Replay.Command.SPEND_SCORE, a);
+        simulation.spendScore(a);
     }
 
     public Paddle getPaddle() {
-        return paddle;
+        return simulation.getPaddle();
+    }
+
+    public GameSimulation getSimulation() {
+        return simulation;
     }
 
     public SoundManager getSoundManager() {
@@ -1221,52 +1151,17 @@ public class GamePanel extends JPanel implements Runnable {
         return achievementManager.isUnlocked("학생회의 자격-" + (skinIndex + 1));
     }
 
-    private Ball createBall(double x, double y) {
-        Ball newBall = new Ball(x, y);
-        applyBallSkinToBall(newBall);
-        if (slowBallActive) {
-            newBall.getVelocity().x *= SLOW_FACTOR;
-            newBall.getVelocity().y *= SLOW_FACTOR;
-        }
-        return newBall;
-    }
-
-    private Ball createBall(double x, double y, double vx, double vy) {
-        Ball newBall = new Ball(x, y);
-        newBall.setVelocity(new Vector2D(vx, vy));
-        applyBallSkinToBall(newBall);
-        return newBall;
-    }
-
     private void applyBallSkinToBall(Ball target) {
         if (target == null) {
             return;
         }
         if (currentSkinIndex != -1 && isSkinUnlocked(currentSkinIndex)) {
-            if (currentSkinIndex < ballSkins.length && ballSkins[currentSkinIndex] != null) {
-                target.setSkin(ballSkins[currentSkinIndex]);
+            BufferedImage skin = loadedImage(ballSkins, currentSkinIndex);
+            if (skin != null) {
+                target.setSkin(skin);
                 return;
             }
         }
         target.setSkin(null);
     }
-
-    public void spawnMultiBall(int extraCount) {
-        if (balls.isEmpty()) {
-            return;
-        }
-        Ball base = balls.get(0);
-        Vector2D baseVel = base.getVelocity();
-        double speed = baseVel.magnitude();
-        if (speed < 1.0) {
-            speed = 5.0;
-        }
-        double baseAngle = Math.atan2(baseVel.y, baseVel.x);
-        for (int i = 0; i < extraCount; i++) {
-            double newAngle = baseAngle + Math.toRadians((i + 1) * 20);
-            double vx = speed * Math.cos(newAngle);
-            double vy = speed * Math.sin(newAngle);
-            balls.add(createBall(base.getPosition().x, base.getPosition().y, vx, vy));
-        }
-    }
 }
\ No newline at end of file
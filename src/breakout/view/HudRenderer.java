@@ -0,0 +1,153 @@
+package breakout.view;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
+
+import breakout.engine.GameSimulation;
+
+/**
+ * 플레이 화면 상단 HUD.
+ * 문자열은 값이 바뀔 때만 다시 만들고, 콤보 글자 크기 애니메이션 상태를 갖는다.
+ */
+public class HudRenderer {
+
+    private static final int WIDTH = GameSimulation.WIDTH;
+    private static final int HEIGHT = GameSimulation.HEIGHT;
+
+    private static final Color[] COMBO_FLASH = {Color.RED, Color.ORANGE, Color.YELLOW, Color.WHITE, Color.MAGENTA, Color.CYAN};
+    private static final Color HUD_BAR_COLOR = new Color(0, 0, 0, 100);
+    private static final Color SEED_COLOR = new Color(255, 255, 255, 120);
+
+    // HUD 문자열 캐시 (값이 바뀔 때만 다시 만든다)
+    private final CachedText scoreText = new CachedText();
+    private final CachedText comboText = new CachedText();
+    private final CachedText buffText = new CachedText();
+    private final CachedText bricksText = new CachedText();
+    private final CachedText seedText = new CachedText();
+
+    private float comboScale = 1.0f;
+
+    /** 벽돌을 맞혀 콤보가 이어졌을 때 콤보 글자를 크게 키운다. */
+    public void onCombo(int comboCount) {
+        comboScale = Math.min(3.0f, 2.0f + (comboCount * 0.1f));
+    }
+
+    /** 매 업데이트마다 콤보 글자 크기를 원래대로 줄인다. */
+    public void update() {
+        if (comboScale > 1.0f) {
+            comboScale -= 0.05f;
+        }
+    }
+
+    /** 점수, 남은 벽돌, 목숨, 버프, 콤보, 시드를 그린다. */
+    public void draw(Graphics2D g2, GameSimulation sim) {
+        g2.setColor(HUD_BAR_COLOR);
+        g2.fillRect(0, 0, WIDTH, 40);
+        g2.setColor(Color.WHITE);
+        Font hudFont = FontCache.get("Consolas", Font.BOLD, 24);
+        g2.setFont(hudFont);
+        int score = sim.getScore();
+        if (!scoreText.isValid(score, hudFont, g2)) {
+            scoreText.set(score, "SCORE: " + score, hudFont, g2);
+        }
+        scoreText.draw(g2, 20, 28);
+
+        Font bricksFont = FontCache.get("Consolas", Font.BOLD, 16);
+        g2.setFont(bricksFont);
+        int bricksLeft = sim.getMapGenerator().getLiveBrickCount();
+        if (!bricksText.isValid(bricksLeft, bricksFont, g2)) {
+            bricksText.set(bricksLeft, "BRICKS: " + bricksLeft, bricksFont, g2);
+        }
+        bricksText.draw(g2, WIDTH / 2 - bricksText.getWidth() / 2, 26);
+        for (int i = 0; i < sim.getLives(); i++) {
+            drawHeart(g2, WIDTH - 120 + (i * 30), 10);
+        }
+        drawActiveBuffs(g2, sim);
+        if (sim.getComboCount() >= 2) {
+            drawCombo(g2, sim);
+        }
+        drawSeed(g2, sim);
+    }
+
+    // 재현용 세션 시드 (왼쪽 아래)
+    private void drawSeed(Graphics2D g2, GameSimulation sim) {
+        Font seedFont = FontCache.get("Consolas", Font.PLAIN, 12);
+        g2.setFont(seedFont);
+        long seed = sim.getSeed();
+        if (!seedText.isValid(seed, seedFont, g2)) {
+            seedText.set(seed, "SEED " + GameSimulation.formatSeed(seed), seedFont, g2);
+        }
+        g2.setColor(SEED_COLOR);
+        seedText.draw(g2, 10, HEIGHT - 10);
+    }
+
+    private void drawCombo(Graphics2D g2, GameSimulation sim) {
+        int fontSize = (int) (40 * comboScale);
+        Font comboFont = FontCache.get("Consolas", Font.BOLD, fontSize);
+        g2.setFont(comboFont);
+        Color mainColor = COMBO_FLASH[(int) ((System.currentTimeMillis() / 50) % COMBO_FLASH.length)];
+        int comboCount = sim.getComboCount();
+        if (!comboText.isValid(comboCount, comboFont, g2)) {
+            comboText.set(comboCount, comboCount + " COMBO!", comboFont, g2);
+        }
+        int tw = comboText.getWidth();
+        int drawX = WIDTH / 2 - tw / 2;
+        int drawY = 80;
+        g2.setColor(Color.DARK_GRAY);
+        for (int i = 1; i <= 8; i++) {
+            comboText.draw(g2, drawX + i, drawY + i);
+        }
+        g2.setColor(mainColor);
+        comboText.draw(g2, drawX, drawY);
+    }
+
+    private void drawActiveBuffs(Graphics2D g2, GameSimulation sim) {
+        boolean doubleScoreActive = sim.isDoubleScoreActive();
+        int doubleScoreTimer = sim.getDoubleScoreTimer();
+        boolean piercingActive = sim.isPiercingActive();
+        int piercingTimer = sim.getPiercingTimer();
+        boolean slowBallActive = sim.isSlowBallActive();
+        int slowBallTimer = sim.getSlowBallTimer();
+        int bombBallCharges = sim.getBombBallCharges();
+
+        // 표시되는 초 단위 값이 바뀔 때만 문자열을 다시 만든다 (항목마다 16비트, 0은 꺼짐)
+        long key = (doubleScoreActive ? (doubleScoreTimer / 60) + 1L : 0L)
+                | (piercingActive ? (piercingTimer / 60) + 1L : 0L) << 16
+                | (slowBallActive ? (slowBallTimer / 60) + 1L : 0L) << 32
+                | (long) Math.max(0, bombBallCharges) << 48;
+        if (key == 0) {
+            return;
+        }
+
+        Font buffFont = FontCache.get("Consolas", Font.BOLD, 16);
+        g2.setFont(buffFont);
+        if (!buffText.isValid(key, buffFont, g2)) {
+            List<String> s = new ArrayList<>();
+            if (doubleScoreActive) {
+                s.add("2x SCORE " + (doubleScoreTimer / 60) + "s");
+            }
+            if (piercingActive) {
+                s.add("PIERCE " + (piercingTimer / 60) + "s");
+            }
+            if (slowBallActive) {
+                s.add("SLOW " + (slowBallTimer / 60) + "s");
+            }
+            if (bombBallCharges > 0) {
+                s.add("BOMB x" + bombBallCharges);
+            }
+            buffText.set(key, String.join(" | ", s), buffFont, g2);
+        }
+        g2.setColor(Color.WHITE);
+        buffText.draw(g2, 10, 55);
+    }
+
+    private void drawHeart(Graphics2D g2, int x, int y) {
+        g2.setColor(Color.RED);
+        g2.fillOval(x, y, 10, 10);
+        g2.fillOval(x + 10, y, 10, 10);
+        g2.fillPolygon(new int[]{x, x + 10, x + 20}, new int[]{y + 5, y + 20, y + 5}, 3);
+    }
+}
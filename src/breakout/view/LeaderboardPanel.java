@@ -48,9 +48,9 @@ public class LeaderboardPanel {
         String title = "LEADERBOARD";
         Font titleFont;
         if (customFont != null) {
-            titleFont = customFont.deriveFont(Font.BOLD, 48f);
+            titleFont = FontCache.derive(customFont, Font.BOLD, 48f);
         } else {
-            titleFont = new Font("SansSerif", Font.BOLD, 48);
+            titleFont = FontCache.get("SansSerif", Font.BOLD, 48);
         }
         
         g2.setFont(titleFont);
@@ -60,9 +60,9 @@ public class LeaderboardPanel {
         // Column headers
         Font headerFont;
         if (customFont != null) {
-            headerFont = customFont.deriveFont(Font.BOLD, 20f);
+            headerFont = FontCache.derive(customFont, Font.BOLD, 20f);
         } else {
-            headerFont = new Font("SansSerif", Font.BOLD, 20);
+            headerFont = FontCache.get("SansSerif", Font.BOLD, 20);
         }
         
         g2.setFont(headerFont);
@@ -85,18 +85,18 @@ public class LeaderboardPanel {
 
         Font nameFont;
         if (customFont != null) {
-            nameFont = customFont.deriveFont(Font.BOLD, 22f);
+            nameFont = FontCache.derive(customFont, Font.BOLD, 22f);
         } else {
-            nameFont = new Font("SansSerif", Font.BOLD, 22);
+            nameFont = FontCache.get("SansSerif", Font.BOLD, 22);
         }
         
-        Font scoreFont = new Font("Consolas", Font.BOLD, 20);
+        Font scoreFont = FontCache.get("Consolas", Font.BOLD, 20);
         
         Font dateFont;
         if (customFont != null) {
-            dateFont = customFont.deriveFont(Font.PLAIN, 14f);
+            dateFont = FontCache.derive(customFont, Font.PLAIN, 14f);
         } else {
-            dateFont = new Font("SansSerif", Font.PLAIN, 14);
+            dateFont = FontCache.get("SansSerif", Font.PLAIN, 14);
         }
 
         for (int i = 0; i < top.size(); i++) {
@@ -78,7 +78,7 @@ public class LevelSelectPanel {
         g2.fillRect(0, 0, GamePanel.WIDTH, GamePanel.HEIGHT);
 
         g2.setColor(Color.WHITE);
-        g2.setFont(new Font("Consolas", Font.BOLD, 40));
+        g2.setFont(FontCache.get("Consolas", Font.BOLD, 40));
         panel.drawCenteredString(g2, "SELECT LEVEL", GamePanel.WIDTH / 2, 100);
 
         for (GameButton btn : levelButtons) {
@@ -1,6 +1,7 @@
 package breakout.view;
 
 import java.awt.Dimension;
+import java.lang.management.ManagementFactory;
 import javax.swing.JFrame;
 import javax.swing.JLayeredPane;
 import javax.swing.SwingUtilities;
@@ -56,6 +57,11 @@ public class MainFrame extends JFrame {
         });
         
         gamePanel.startGame();
+
+        // 콜드 스타트 시간 (JVM 시작 기준)
+        System.out.printf("[Startup] window shown at %d ms%n", ManagementFactory.getRuntimeMXBean().getUptime());
+        gamePanel.getAssetsLoaded().whenComplete((v, e) ->
+                System.out.printf("[Startup] all assets loaded at %d ms%n", ManagementFactory.getRuntimeMXBean().getUptime()));
     }
 
     public static void main(String[] args) {
@@ -81,7 +81,7 @@ public class NameInputModal {
         g.drawRoundRect(bounds.x, bounds.y, bounds.width, bounds.height, 20, 20);
 
         if (font != null) {
-            g.setFont(font.deriveFont(Font.BOLD, 22f));
+            g.setFont(FontCache.derive(font, Font.BOLD, 22f));
         }
         
         int titleW = g.getFontMetrics().stringWidth(title);
@@ -94,7 +94,7 @@ public class NameInputModal {
         g.drawRect(bounds.x + 30, bounds.y + 70, bounds.width - 60, 50);
 
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Malgun Gothic", Font.BOLD, 20));
+        g.setFont(FontCache.get("Malgun Gothic", Font.BOLD, 20));
         
         String display = inputName.toString();
         if (System.currentTimeMillis() % 1000 < 500) {
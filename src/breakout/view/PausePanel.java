@@ -53,7 +53,7 @@ public class PausePanel {
         g2.fillRect(0, 0, GamePanel.WIDTH, GamePanel.HEIGHT);
 
         g2.setColor(Color.RED);
-        g2.setFont(new Font("Arial", Font.BOLD | Font.ITALIC, 60));
+        g2.setFont(FontCache.get("Arial", Font.BOLD | Font.ITALIC, 60));
         panel.drawCenteredString(g2, "*COWARD*", GamePanel.WIDTH / 2, 200);
 
         resumeButton.draw(g2, customFont);
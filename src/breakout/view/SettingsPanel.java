@@ -142,7 +142,7 @@ public class SettingsPanel {
 
         g.setColor(Color.WHITE);
         if (font != null) {
-            g.setFont(font.deriveFont(Font.BOLD, 40f));
+            g.setFont(FontCache.derive(font, Font.BOLD, 40f));
         }
         
         int titleWidth = g.getFontMetrics().stringWidth("설정");
@@ -152,7 +152,7 @@ public class SettingsPanel {
         bgNextButton.draw(g, font);
         
         if (font != null) {
-            g.setFont(font.deriveFont(Font.BOLD, 16f));
+            g.setFont(FontCache.derive(font, Font.BOLD, 16f));
         }
         
         String bgText = "배경화면";
@@ -169,7 +169,7 @@ public class SettingsPanel {
 
         g.setColor(new Color(255, 255, 255, 100));
         if (font != null) {
-            g.setFont(font.deriveFont(Font.BOLD, 14f));
+            g.setFont(FontCache.derive(font, Font.BOLD, 14f));
         }
         
         String previewText = "▼ 미리보기 ▼";
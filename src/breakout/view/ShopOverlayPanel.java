@@ -214,7 +214,7 @@ public class ShopOverlayPanel extends JPanel {
             g2.fillRect(0, 0, getWidth(), getHeight());
         }
 
-        g2.setFont(new Font("SansSerif", Font.BOLD, 50));
+        g2.setFont(FontCache.get("SansSerif", Font.BOLD, 50));
         String title = "SSAGAL STORE";
         int titleX = GamePanel.WIDTH / 2;
         int titleY = 140;
@@ -227,11 +227,11 @@ public class ShopOverlayPanel extends JPanel {
         g2.setColor(Color.RED);
         drawCentered(g2, title, titleX, titleY);
 
-        g2.setFont(new Font("SansSerif", Font.BOLD, 28));
+        g2.setFont(FontCache.get("SansSerif", Font.BOLD, 28));
         g2.setColor(new Color(255, 215, 0));
         drawCentered(g2, "SCORE: " + gamePanel.getScore(), GamePanel.WIDTH / 2, 190);
 
-        Font btnFont = new Font("SansSerif", Font.BOLD, 24);
+        Font btnFont = FontCache.get("SansSerif", Font.BOLD, 24);
         buyPaddleBtn.draw(g2, btnFont);
         buySlowBtn.draw(g2, btnFont);
         buyLifeBtn.draw(g2, btnFont);
@@ -246,7 +246,7 @@ public class ShopOverlayPanel extends JPanel {
             if (msg != null) {
                 if (!msg.isEmpty()) {
                     g2.setColor(Color.YELLOW);
-                    g2.setFont(new Font("SansSerif", Font.BOLD, 22));
+                    g2.setFont(FontCache.get("SansSerif", Font.BOLD, 22));
                     drawCentered(g2, msg, GamePanel.WIDTH / 2, 530);
                 }
             }
@@ -0,0 +1,118 @@
+package breakout.engine;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import breakout.entity.Paddle;
+import breakout.manager.InputManager;
+
+class ReplayTest {
+
+    private static final long SEED = 0x5EEDL;
+    private static final int TICKS = 6000;
+
+    @Test
+    void varintRoundTrip() throws IOException {
+        long[] values = {0, 1, 127, 128, 300, 16383, 16384, Integer.MAX_VALUE, Long.MAX_VALUE, -1L};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (long v : values) {
+            Replay.writeVarint(out, v);
+        }
+        Replay.Reader r = new Replay.Reader(out.toByteArray());
+        for (long v : values) {
+            assertEquals(v, r.readVarint());
+        }
+        assertEquals(out.size(), r.position());
+    }
+
+    @Test
+    void varintLength() {
+        assertEquals(1, varintBytes(0));
+        assertEquals(1, varintBytes(127));
+        assertEquals(2, varintBytes(128));
+        assertEquals(2, varintBytes(16383));
+        assertEquals(3, varintBytes(16384));
+        assertEquals(10, varintBytes(-1L));
+    }
+
+    @Test
+    void zigzagRoundTrip() throws IOException {
+        long[] values = {0, -1, 1, -2, 2, -64, 63, -65, 64, Long.MIN_VALUE, Long.MAX_VALUE};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (long v : values) {
+            Replay.writeSignedVarint(out, v);
+        }
+        Replay.Reader r = new Replay.Reader(out.toByteArray());
+        for (long v : values) {
+            assertEquals(v, r.readSignedVarint());
+        }
+    }
+
+    @Test
+    void zigzagKeepsSmallDeltasShort() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Replay.writeSignedVarint(out, -1);
+        Replay.writeSignedVarint(out, 1);
+        Replay.writeSignedVarint(out, -64);
+        assertArrayEquals(new byte[] {1, 2, 127}, out.toByteArray());
+    }
+
+    @Test
+    void roundTripWithEachPaddleShape() throws IOException {
+        int[] shapes = {Paddle.SHAPE_RECT, Paddle.SHAPE_ROUND, Paddle.SHAPE_DIAMOND, Paddle.SHAPE_WAVE};
+        for (int shape : shapes) {
+            assertReplayMatches(1, shape, -1);
+            assertReplayMatches(16, shape, -1);
+        }
+    }
+
+    @Test
+    void roundTripWithShapeChangedMidGame() throws IOException {
+        assertReplayMatches(3, Paddle.SHAPE_RECT, Paddle.SHAPE_WAVE);
+    }
+
+    // shape으로 시작해서 (changeTo >= 0이면) 중간에 모양을 바꾸는 판을 기록하고 다시 재생한다
+    private static void assertReplayMatches(int level, int shape, int changeTo) throws IOException {
+        InputManager input = new InputManager();
+        GameSimulation sim = new GameSimulation(input, null);
+        sim.startLevel(level, SEED);
+        ReplayRecorder recorder = new ReplayRecorder(SEED, level);
+        recorder.recordCommand(Replay.Command.PADDLE_SHAPE, shape);
+        sim.setPaddleShape(shape);
+
+        for (int t = 0; t < TICKS && !sim.isFinished(); t++) {
+            if (t == TICKS / 2 && changeTo >= 0) {
+                recorder.recordCommand(Replay.Command.PADDLE_SHAPE, changeTo);
+                sim.setPaddleShape(changeTo);
+            }
+            SimulationRunner.steerPaddle(sim, input);
+            recorder.recordStep(input);
+            sim.step();
+        }
+        byte[] data = recorder.finish(sim.getScore(), sim.getLives());
+
+        ReplayPlayer player = new ReplayPlayer(data);
+        GameSimulation replayed = new GameSimulation(new InputManager(), null);
+        player.start(replayed);
+        while (player.step(replayed, null)) {
+            // 기록이 끝날 때까지 진행
+        }
+        String scene = "level " + level + ", shape " + shape + ", change " + changeTo;
+        assertEquals(sim.getTickCount(), replayed.getTickCount(), scene);
+        assertEquals(sim.getScore(), replayed.getScore(), scene);
+        assertEquals(Math.max(0, sim.getLives()), Math.max(0, replayed.getLives()), scene);
+        assertTrue(player.matches(replayed), scene);
+    }
+
+    private static int varintBytes(long value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Replay.writeVarint(out, value);
+        return out.size();
+    }
+}